@@ -0,0 +1,84 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// The same number of generations stepped one pass per round (HaloEngine) and k rounds per pass
+// (TemporalBlockingEngine), on grids bigger than the caches
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BlockingBenchmark {
+
+    @Param({"1024", "4096"})
+    public int size;
+
+    // Rounds per pass of the blocked engine
+    @Param({"1", "4", "8", "16"})
+    public int generations;
+
+    private HaloEngine halo;
+    private TemporalBlockingEngine blocked;
+    private ByteGrid gen;
+    private ByteGrid newGen;
+    // Ping-pong buffers of the sequential run
+    private ByteGrid scratch;
+
+    // Generations computed, reported by JMH as a rate next to the benchmark score
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class GenerationCounter {
+        public long rounds;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rounds = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        halo = new HaloEngine();
+        blocked = new TemporalBlockingEngine(generations, TemporalBlockingEngine.DEFAULT_TILE);
+        gen = GenRandomizer.randomGrid(size, size, size * 31L, 0.3);
+        newGen = new ByteGrid(size, size);
+        scratch = new ByteGrid(size, size);
+    }
+
+    // Always from the same gen, a stepped one would die out or settle during the run
+    @Benchmark
+    public int sequential(GenerationCounter counter) {
+        ByteGrid from = gen;
+        ByteGrid to = newGen;
+        int changed = 0;
+        for (int g = 0; g < generations; g++) {
+            changed = halo.step(from, to, null);
+            from = to;
+            to = to == newGen ? scratch : newGen;
+        }
+        counter.rounds += generations;
+        return changed;
+    }
+
+    @Benchmark
+    public int blocked(GenerationCounter counter) {
+        counter.rounds += generations;
+        return blocked.advance(gen, newGen, null);
+    }
+}
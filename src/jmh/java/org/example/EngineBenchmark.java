@@ -0,0 +1,84 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// One engine step per operation, to compare the engines on the same colonies.
+// The fork gets the Vector API module, otherwise "vector" measures its scalar fallback.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class EngineBenchmark {
+
+    @Param({"array", "halo", "lut", "bitboard", "vector"})
+    public String engine;
+
+    @Param({"256", "1024", "4096"})
+    public int size;
+
+    @Param({"0.3"})
+    public double density;
+
+    // Grid storage: int[][] through IntArrayGrid or the flat ByteGrid
+    @Param({"int", "byte"})
+    public String backend;
+
+    private GenerationEngine stepper;
+    private Grid gen;
+    private Grid newGen;
+    private ChangeSet changes;
+
+    // Cells handled, reported by JMH as a rate next to the benchmark score
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class CellCounter {
+        public long cells;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cells = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stepper = GenerationEngine.forName(engine);
+        gen = backend.equals("byte")
+                ? GenRandomizer.randomGrid(size, size, size * 31L, density)
+                : new IntArrayGrid(GenRandomizer.randomGen(size, size, size * 31L, density));
+        newGen = gen.emptyCopy();
+        changes = new ChangeSet();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (stepper instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    // Always the same gen, a stepped one would die out or settle during the run
+    @Benchmark
+    public int step(CellCounter counter) {
+        changes.clear(size);
+        counter.cells += (long) size * size;
+        return stepper.step(gen, newGen, changes);
+    }
+}
@@ -0,0 +1,123 @@
+package org.example;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Baseline of the simulation core across grid sizes and densities.
+// Besides ops/s every benchmark reports a "cells" counter, which is the throughput in cells per second.
+// Run without arguments for the full suite with the GC profiler (allocation rate), or pass the usual JMH options.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+    @Param({"30", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"0.1", "0.3", "0.5"})
+    public double density;
+
+    private int[][] gen;
+    private int[][] sameGen;
+
+    // Cells handled, reported by JMH as a rate next to the benchmark score
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class CellCounter {
+        public long cells;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            cells = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Fixed seed, every run measures the same colonies
+        Random rand = new Random(size * 31L + Double.hashCode(density));
+        gen = new int[size][size];
+        sameGen = new int[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                gen[i][j] = rand.nextDouble() < density ? 1 : 0;
+                sameGen[i][j] = gen[i][j];
+            }
+        }
+    }
+
+    // A new logic every time, a shared one would stop stepping after MAX_ROUNDS
+    @Benchmark
+    public int[][] generateNewGen(CellCounter counter) {
+        counter.cells += (long) size * size;
+        return new BacteriaLifeLogic(size).generateNewGen(gen);
+    }
+
+    // One call per cell, the same work generateNewGen does
+    @Benchmark
+    public int checkNeighbours(CellCounter counter) {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                total += BacteriaLifeLogic.checkNeighbours(gen, i, j);
+            }
+        }
+        counter.cells += (long) size * size;
+        return total;
+    }
+
+    @Benchmark
+    public int[][] generateInitialGen(CellCounter counter) {
+        counter.cells += (long) size * size;
+        return new BacteriaLifeLogic(size).generateInitialGen();
+    }
+
+    // Equal gens, the worst case since every cell is compared
+    @Benchmark
+    public boolean checkStableGen(CellCounter counter) {
+        counter.cells += (long) size * size;
+        return BacteriaLifeLogic.checkStableGen(gen, sameGen);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        runDefault();
+    }
+
+    // Whole suite with the GC profiler, results also go to target/jmh-result.json
+    private static void runDefault() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SimulationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Engine that splits the grid into square tiles and only recomputes the tiles that changed
+// last round or border one that did, the rest of the colony is left as it is.
+// It remembers the last call, so gen must be the newGen of the previous step (both
+// generateNewGen and BacteriaLifeLogic.step do that). Anything else recomputes the whole grid.
+// Call reset() after editing a gen by hand. Not thread safe.
+public class ActiveRegionEngine implements GenerationEngine {
+    private static final int DEFAULT_TILE_SIZE = 32;
+    private final int tileSize;
+    private int tileRows;
+    private int tileCols;
+    // Tiles with at least one changed cell in the last round
+    private boolean[] changedTiles = new boolean[0];
+    private boolean[] activeTiles = new boolean[0];
+    // The arrays or ByteGrids of the last call
+    private Object lastGen;
+    private Object lastNewGen;
+    private int lastActiveTiles;
+
+    public ActiveRegionEngine() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    public ActiveRegionEngine(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be at least 1: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        return stepTiles(gen, newGen, rows, rows == 0 ? 0 : gen[0].length, changes);
+    }
+
+    // A ByteGrid is stepped on its cells, the grids themselves are remembered instead of arrays
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof ByteGrid in && newGen instanceof ByteGrid out) {
+            return stepTiles(in, out, in.getRows(), in.getCols(), changes);
+        }
+        return GenerationEngine.super.step(gen, newGen, changes);
+    }
+
+    // gen and newGen are both int[][] or both ByteGrid
+    private int stepTiles(Object gen, Object newGen, int rows, int cols, ChangeSet changes) {
+        int newTileRows = (rows + tileSize - 1) / tileSize;
+        int newTileCols = (cols + tileSize - 1) / tileSize;
+        boolean continuing = gen == lastNewGen && newTileRows == tileRows && newTileCols == tileCols;
+        // With ping-pong buffers newGen still has the gen before, which is right for every inactive tile
+        boolean newGenIsPrevious = continuing && newGen == lastGen;
+
+        if (continuing) {
+            markActiveTiles();
+        } else {
+            tileRows = newTileRows;
+            tileCols = newTileCols;
+            changedTiles = new boolean[tileRows * tileCols];
+            activeTiles = new boolean[tileRows * tileCols];
+            Arrays.fill(activeTiles, true);
+        }
+        Arrays.fill(changedTiles, false);
+
+        int changed = 0;
+        int active = 0;
+        for (int t = 0; t < activeTiles.length; t++) {
+            int fromRow = (t / tileCols) * tileSize;
+            int toRow = Math.min(rows, fromRow + tileSize);
+            int fromCol = (t % tileCols) * tileSize;
+            int toCol = Math.min(cols, fromCol + tileSize);
+            if (activeTiles[t]) {
+                active++;
+                int tileChanges = gen instanceof int[][] ints
+                        ? stepTile(ints, (int[][]) newGen, fromRow, toRow, fromCol, toCol, changes)
+                        : ArrayEngine.stepCells((ByteGrid) gen, (ByteGrid) newGen, fromRow, toRow, fromCol, toCol, changes);
+                changedTiles[t] = tileChanges > 0;
+                changed += tileChanges;
+            } else if (!newGenIsPrevious) {
+                copyTile(gen, newGen, cols, fromRow, toRow, fromCol, toCol);
+            }
+        }
+
+        lastActiveTiles = active;
+        lastGen = gen;
+        lastNewGen = newGen;
+        return changed;
+    }
+
+    @Override
+    public String getName() {
+        return "active";
+    }
+
+    // Forget the last step, the next one recomputes every tile
+    public void reset() {
+        lastGen = null;
+        lastNewGen = null;
+    }
+
+    // Tiles recomputed in the last step
+    public int getActiveTiles() {
+        return lastActiveTiles;
+    }
+
+    // Tiles in the whole grid
+    public int getTotalTiles() {
+        return tileRows * tileCols;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    // A tile is active if it or one of its 8 neighbour tiles changed
+    private void markActiveTiles() {
+        Arrays.fill(activeTiles, false);
+        for (int t = 0; t < changedTiles.length; t++) {
+            if (!changedTiles[t]) continue;
+            int row = t / tileCols;
+            int col = t % tileCols;
+            for (int r = Math.max(0, row - 1); r <= Math.min(tileRows - 1, row + 1); r++) {
+                for (int c = Math.max(0, col - 1); c <= Math.min(tileCols - 1, col + 1); c++) {
+                    activeTiles[r * tileCols + c] = true;
+                }
+            }
+        }
+    }
+
+    private static void copyTile(Object gen, Object newGen, int cols, int fromRow, int toRow, int fromCol, int toCol) {
+        for (int i = fromRow; i < toRow; i++) {
+            if (gen instanceof int[][] ints) {
+                System.arraycopy(ints[i], fromCol, ((int[][]) newGen)[i], fromCol, toCol - fromCol);
+            } else {
+                System.arraycopy(((ByteGrid) gen).getCells(), i * cols + fromCol,
+                        ((ByteGrid) newGen).getCells(), i * cols + fromCol, toCol - fromCol);
+            }
+        }
+    }
+
+    // Same as ArrayEngine.stepRows, limited to one tile
+    private static int stepTile(int[][] gen, int[][] newGen, int fromRow, int toRow, int fromCol, int toCol,
+                                ChangeSet changes) {
+        int changed = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            for (int j = fromCol; j < toCol; j++) {
+                int bacteria = gen[i][j];
+                int next = ArrayEngine.nextState(bacteria, BacteriaLifeLogic.checkNeighbours(gen, i, j));
+                newGen[i][j] = next;
+                if (next != bacteria) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example;
+
+// Default engine, one int per cell and a neighbour walk per cell
+public class ArrayEngine implements GenerationEngine {
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        return stepRows(gen, newGen, 0, gen.length, changes);
+    }
+
+    // Computes rows [fromRow, toRow) of newGen, each row only reads three rows of gen
+    public static int stepRows(int[][] gen, int[][] newGen, int fromRow, int toRow, ChangeSet changes) {
+        int changed = 0;
+        // Check each position
+        for (int i = fromRow; i < toRow; i++) {
+            for (int j = 0; j < gen[i].length; j++) {
+
+                int bacteria = gen[i][j];
+                int next = nextState(bacteria, BacteriaLifeLogic.checkNeighbours(gen, i, j));
+                newGen[i][j] = next;
+                if (next != bacteria) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Computes rows [fromRow, toRow) and columns [fromCol, toCol) of a ByteGrid on its flat cells
+    public static int stepCells(ByteGrid gen, ByteGrid newGen, int fromRow, int toRow, int fromCol, int toCol,
+                                ChangeSet changes) {
+        byte[] cells = gen.getCells();
+        byte[] next = newGen.getCells();
+        int rows = gen.getRows();
+        int cols = gen.getCols();
+        int changed = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            int top = Math.max(0, i - 1);
+            int bottom = Math.min(rows - 1, i + 1);
+            for (int j = fromCol; j < toCol; j++) {
+                int neighbours = 0;
+                for (int r = top; r <= bottom; r++) {
+                    for (int c = Math.max(0, j - 1); c <= Math.min(cols - 1, j + 1); c++) {
+                        neighbours += cells[r * cols + c];
+                    }
+                }
+                int bacteria = cells[i * cols + j];
+                int state = nextState(bacteria, neighbours - bacteria);
+                next[i * cols + j] = (byte) state;
+                if (state != bacteria) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Same walk on any backend, through get() and set()
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof IntArrayGrid in && newGen instanceof IntArrayGrid out) {
+            return step(in.getArray(), out.getArray(), changes);
+        }
+        if (gen instanceof ByteGrid in && newGen instanceof ByteGrid out) {
+            return stepCells(in, out, 0, in.getRows(), 0, in.getCols(), changes);
+        }
+        int rows = gen.getRows();
+        int cols = gen.getCols();
+        int changed = 0;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int neighbours = 0;
+                for (int r = Math.max(0, i - 1); r <= Math.min(rows - 1, i + 1); r++) {
+                    for (int c = Math.max(0, j - 1); c <= Math.min(cols - 1, j + 1); c++) {
+                        neighbours += gen.get(r, c);
+                    }
+                }
+                int bacteria = gen.get(i, j);
+                int next = nextState(bacteria, neighbours - bacteria);
+                newGen.set(i, j, next);
+                if (next != bacteria) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Apply rules to one cell
+    public static int nextState(int bacteria, int neighbours) {
+        if (bacteria == 0 && neighbours == 3) {
+            return 1; // Nacimiento
+        } else if (bacteria == 1 && (neighbours == 0 || neighbours == 1)) {
+            return 0; // Muerte por soledad
+        } else if (bacteria == 1 && neighbours > 3) {
+            return 0; // Muerte por asfixia
+        } else {
+            return bacteria; // Nothing changes, supervivencia
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "array";
+    }
+}
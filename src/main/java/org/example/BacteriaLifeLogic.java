@@ -1,12 +1,31 @@
 package org.example;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Random;
+import java.util.List;
+import java.util.SplittableRandom;
 
 public class BacteriaLifeLogic {
     private final int DIMENSION;
+    private final GenerationEngine engine;
     private int round = 0;
+    // Double buffers owned by the logic, used by step(), in the backend of the loaded gen
+    private Grid currentGen;
+    private Grid nextGen;
+    private int lastChanges = -1;
+    // Cells flipped by the last step() and the cycle detection fed with them
+    private final ChangeSet changeSet = new ChangeSet();
+    private int maxPeriod = DEFAULT_MAX_PERIOD;
+    private int maxRounds = MAX_ROUNDS;
+    private CycleDetector cycleDetector;
+    // Notified after every step(), e.g. a RunRecorder
+    private final List<StepListener> listeners = new ArrayList<>();
+    // Null unless metrics were attached
+    private SimulationMetrics metrics;
+    // Population, births, deaths and bounding box, updated from the changes of every step
+    private PopulationStats populationStats = new PopulationStats();
     private static final int MAX_ROUNDS = 300;
+    private static final int DEFAULT_MAX_PERIOD = 30;
     private static final int[][] DIRECTIONS = {
             {-1, -1}, {-1, 0}, {-1, 1},
             {0, -1}, {0, 1},
@@ -15,53 +34,230 @@ public class BacteriaLifeLogic {
 
     // Main function, launching the algorithm
     public BacteriaLifeLogic(int dimension) {
+        this(dimension, new ArrayEngine());
+    }
+
+    // Same as above but with a custom engine, e.g. BitBoardEngine
+    public BacteriaLifeLogic(int dimension, GenerationEngine engine) {
         this.DIMENSION = dimension;
+        this.engine = engine;
     }
 
     // Generate initial generation, random positions
     public int[][] generateInitialGen() {
-        Random rand = new Random();
-        int[][] genTable = new int[DIMENSION][DIMENSION];
+        return generateInitialGen(new SplittableRandom().nextLong(), 0.5);
+    }
 
-        for (int i = 0; i < DIMENSION; i++) {
-            for (int j = 0; j < DIMENSION; j++) {
-                genTable[i][j] = rand.nextInt(2);
-            }
-        }
-        return genTable;
+    // Same as above but reproducible, each cell is alive with the given probability.
+    // Filled 64 cells per random long and in parallel on big grids, see GenRandomizer.
+    public int[][] generateInitialGen(long seed, double density) {
+        return GenRandomizer.randomGen(DIMENSION, DIMENSION, seed, density);
+    }
+
+    // Same cells as above in the default Grid backend
+    public ByteGrid generateInitialGrid(long seed, double density) {
+        return GenRandomizer.randomGrid(DIMENSION, DIMENSION, seed, density);
     }
 
     // Generating a new gen until it's stable
     public int[][] generateNewGen(int[][] gen) {
         round++;
         // To prevent stack overflow, it wasn't in the assignment but just in case
-        if (round > MAX_ROUNDS) {
+        if (round > maxRounds) {
             System.out.println("Can't get a stable gen.");
             return gen;
         }
         int[][] newGen = new int[DIMENSION][DIMENSION];
-        // Check each position
+        GenerationStepEvent event = new GenerationStepEvent();
+        event.begin();
+        int changed = engine.step(gen, newGen);
+        if (event.shouldCommit()) {
+            event.set(round, new IntArrayGrid(gen), changed, engine);
+            event.commit();
+        }
+
+        return newGen;
+
+    }
+
+    // Same as above on any backend, the new gen has the backend of the given one
+    public Grid generateNewGen(Grid gen) {
+        round++;
+        if (round > maxRounds) {
+            System.out.println("Can't get a stable gen.");
+            return gen;
+        }
+        Grid newGen = gen.emptyCopy();
+        GenerationStepEvent event = new GenerationStepEvent();
+        event.begin();
+        int changed = engine.step(gen, newGen, null);
+        if (event.shouldCommit()) {
+            event.set(round, gen, changed, engine);
+            event.commit();
+        }
+        return newGen;
+    }
+
+    // Load a gen into the logic's own buffers, the given gen is copied and never touched again
+    public void loadGen(int[][] gen) {
+        int[][] copy = new int[DIMENSION][DIMENSION];
         for (int i = 0; i < DIMENSION; i++) {
-            for (int j = 0; j < DIMENSION; j++) {
-
-                int bacteria = gen[i][j];
-                int neighbours = checkNeighbours(gen, i, j);
-
-                // Apply rules
-                if (bacteria == 0 && neighbours == 3) {
-                    newGen[i][j] = 1; // Nacimiento
-                } else if (bacteria == 1 && (neighbours == 0 || neighbours == 1)) {
-                    newGen[i][j] = 0; // Muerte por soledad
-                } else if (bacteria == 1 && neighbours > 3) {
-                    newGen[i][j] = 0; // Muerte por asfixia
-                } else {
-                    newGen[i][j] = bacteria; // Nothing changes, supervivencia
-                }
+            System.arraycopy(gen[i], 0, copy[i], 0, DIMENSION);
+        }
+        loadGrid(new IntArrayGrid(copy));
+    }
+
+    // Same with any backend, the buffers keep it: a ByteGrid is stepped as a ByteGrid
+    public void loadGen(Grid gen) {
+        loadGrid(gen.copy());
+    }
+
+    private void loadGrid(Grid gen) {
+        currentGen = gen;
+        nextGen = gen.emptyCopy();
+        lastChanges = -1;
+        changeSet.clear(DIMENSION);
+        cycleDetector = new CycleDetector(maxPeriod);
+        cycleDetector.reset(currentGen, round);
+        populationStats.reset(currentGen);
+        if (metrics != null) {
+            metrics.runStarted(populationStats.getPopulation(), round);
+        }
+    }
+
+    // Same as generateNewGen but ping-pongs between the loaded buffers, nothing is allocated.
+    // Returns how many cells changed, 0 means the gen is stable.
+    public int step() {
+        round++;
+        if (round > maxRounds) {
+            System.out.println("Can't get a stable gen.");
+            if (metrics != null) {
+                metrics.roundLimitReached(round);
             }
+            lastChanges = 0;
+            changeSet.clear(DIMENSION);
+            populationStats.update(currentGen, changeSet);
+            notifyListeners();
+            return 0;
+        }
+        if (metrics != null) {
+            metrics.stepStarted();
+        }
+        changeSet.clear(DIMENSION);
+        GenerationStepEvent stepEvent = new GenerationStepEvent();
+        stepEvent.begin();
+        lastChanges = engine.step(currentGen, nextGen, changeSet);
+        if (stepEvent.shouldCommit()) {
+            stepEvent.set(round, currentGen, lastChanges, engine);
+            stepEvent.commit();
         }
 
-        return newGen;
+        StabilityCheckEvent checkEvent = new StabilityCheckEvent();
+        checkEvent.begin();
+        cycleDetector.update(changeSet);
+        if (checkEvent.shouldCommit()) {
+            checkEvent.set(round, currentGen, lastChanges, engine);
+            checkEvent.status = cycleDetector.getStatus().toString();
+            checkEvent.commit();
+        }
+        Grid swap = currentGen;
+        currentGen = nextGen;
+        nextGen = swap;
+        populationStats.update(currentGen, changeSet);
+        if (metrics != null) {
+            metrics.stepFinished(this);
+        }
+        notifyListeners();
+        return lastChanges;
+    }
 
+    // Metrics fed by every step(), null to stop
+    public void setMetrics(SimulationMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null && currentGen != null) {
+            metrics.runStarted(populationStats.getPopulation(), round);
+        }
+    }
+
+    // Stats of the current gen, kept up to date by step() at no extra pass over the grid
+    public PopulationStats getPopulationStats() {
+        return populationStats;
+    }
+
+    // Replaces the stats, e.g. with ones that answer rectangle queries. They're counted from the current gen.
+    public void setPopulationStats(PopulationStats populationStats) {
+        if (populationStats == null) {
+            throw new IllegalArgumentException("Population stats can't be null");
+        }
+        this.populationStats = populationStats;
+        if (currentGen != null) {
+            populationStats.reset(currentGen);
+        }
+    }
+
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void addStepListener(StepListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeStepListener(StepListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListeners() {
+        for (StepListener listener : listeners) {
+            listener.onStep(this);
+        }
+    }
+
+    // Current gen of step(), it's overwritten by the step after the next one.
+    // A copy when the loaded gen wasn't an int[][], see getCurrentGrid().
+    public int[][] getCurrentGen() {
+        if (currentGen == null) {
+            return null;
+        }
+        return currentGen instanceof IntArrayGrid grid ? grid.getArray() : currentGen.toArray();
+    }
+
+    // Current gen of step() in its own backend, no copy
+    public Grid getCurrentGrid() {
+        return currentGen;
+    }
+
+    // True once a step() changed nothing
+    public boolean isStable() {
+        return lastChanges == 0;
+    }
+
+    // Stable, periodic or still evolving, as of the last step()
+    public CycleStatus getStatus() {
+        return cycleDetector == null ? CycleStatus.EVOLVING : cycleDetector.getStatus();
+    }
+
+    // Cells flipped by the last step()
+    public ChangeSet getLastChanges() {
+        return changeSet;
+    }
+
+    // Rounds before giving up on a stable gen, MAX_ROUNDS by default
+    public void setMaxRounds(int maxRounds) {
+        this.maxRounds = maxRounds;
+    }
+
+    public int getMaxRounds() {
+        return maxRounds;
+    }
+
+    public int getDimension() {
+        return DIMENSION;
+    }
+
+    // Longest cycle step() looks for, used from the next loadGen()
+    public void setMaxPeriod(int maxPeriod) {
+        this.maxPeriod = maxPeriod;
     }
 
 
@@ -91,8 +287,16 @@ public class BacteriaLifeLogic {
         return round;
     }
 
+    public GenerationEngine getEngine() {
+        return engine;
+    }
+
     // Check if the gen hasn't changed (if it's stable)
     public static boolean checkStableGen(int[][] oldGen, int[][] newGen) {
         return Arrays.deepEquals(oldGen, newGen);
     }
+
+    public static boolean checkStableGen(Grid oldGen, Grid newGen) {
+        return oldGen.sameCells(newGen);
+    }
 }
@@ -8,12 +8,24 @@ public class BacteriaLifeUI {
     // Constants
     private final BacteriaLifeLogic LOGIC;
     static final int BACTERIA_SIZE = 10;
-    private static final Color BG_COLOR = new Color(141, 69, 220);
-    private static final int DIMENSION = 30;
+    static final Color BG_COLOR = new Color(141, 69, 220);
+    // Speed of the simulation and how often the EDT looks for a new round
+    private static final double ROUNDS_PER_SECOND = 10;
+    private static final int FRAME_MILLIS = 16;
+    private final int DIMENSION;
+    private final RenderMode renderMode;
     private final JPanel genPanel;
-
-    // Current active gen
-    private int[][] bacteriaGen;
+    // Only set in CANVAS mode
+    private GenCanvas canvas;
+    // Persistent cell views of the CIRCLES mode, recoloured instead of rebuilt
+    private Circle[][] circles;
+
+    // Current active gen, the simulation runs on a ByteGrid copy of it
+    private Grid bacteriaGen;
+    // Round currently on screen
+    private int displayedRound;
+    // Live cells of the gen on screen
+    private JLabel populationLabel;
 
     // Generate a generation
     public JPanel generateGen() {
@@ -21,35 +33,64 @@ public class BacteriaLifeUI {
         gen.setLayout(new GridLayout(DIMENSION, DIMENSION, 3, 3));
         gen.setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
         gen.setBackground(BG_COLOR);
+        circles = new Circle[DIMENSION][DIMENSION];
         // Row
         for (int i = 0; i < DIMENSION; i++) {
             // Column
             for (int j = 0; j < DIMENSION; j++) {
                 Color color = Color.WHITE;
-                if (bacteriaGen[i][j] == 1) {
+                if (bacteriaGen.get(i, j) == 1) {
                     color = Color.BLACK;
                 }
                 Circle bacteria = new Circle(color);
+                circles[i][j] = bacteria;
                 gen.add(bacteria);
             }
         }
         return gen;
     }
 
-    // Refresh the grid after generating a new round
-    public void refreshGenPanel() {
-        genPanel.removeAll();
-        genPanel.setLayout(new GridLayout(DIMENSION, DIMENSION, 3, 3));
+    // Generate a generation as a single image
+    public GenCanvas generateCanvas() {
+        GenCanvas gen = new GenCanvas(DIMENSION, DIMENSION);
+        gen.render(bacteriaGen);
+        return gen;
+    }
 
+    // Refresh the whole grid, the cells are recoloured so there's no layout pass
+    public void refreshGenPanel() {
+        if (canvas != null) {
+            canvas.render(bacteriaGen);
+            canvas.repaint();
+            return;
+        }
         for (int i = 0; i < DIMENSION; i++) {
             for (int j = 0; j < DIMENSION; j++) {
-                Color color = (bacteriaGen[i][j] == 1) ? Color.BLACK : Color.WHITE;
-                genPanel.add(new Circle(color));
+                circles[i][j].setCircleColor(colorOf(bacteriaGen.get(i, j)));
             }
         }
+    }
 
-        genPanel.revalidate(); // To avoid bugs
-        genPanel.repaint();
+    // Refresh only the cells that flipped in the last round, each one repaints its own bounds
+    public void refreshCells(ChangeSet changes) {
+        if (canvas != null) {
+            canvas.drawChanges(bacteriaGen, changes);
+            return;
+        }
+        for (int k = 0; k < changes.size(); k++) {
+            int i = changes.getRow(k);
+            int j = changes.getCol(k);
+            circles[i][j].setCircleColor(colorOf(bacteriaGen.get(i, j)));
+        }
+    }
+
+    // Cell view of the CIRCLES mode, null in CANVAS mode
+    public Circle getCircle(int row, int col) {
+        return circles == null ? null : circles[row][col];
+    }
+
+    private static Color colorOf(int bacteria) {
+        return bacteria == 1 ? Color.BLACK : Color.WHITE;
     }
 
     // A bottom panel with a round label and a start button
@@ -62,6 +103,9 @@ public class BacteriaLifeUI {
 
         JButton startButton = getStartButton(roundLabel);
 
+        // Counted once here, then it comes with every snapshot
+        populationLabel = new JLabel("Population: " + bacteriaGen.population(), SwingConstants.CENTER);
+
         startButton.setPreferredSize(new Dimension(70, 50));
         startButton.setBackground(Color.WHITE);
         startButton.setContentAreaFilled(true);
@@ -69,6 +113,7 @@ public class BacteriaLifeUI {
         startButton.setFocusPainted(false);
 
         bottomPanel.add(roundLabel, BorderLayout.WEST);   // Left side
+        bottomPanel.add(populationLabel, BorderLayout.CENTER);
         bottomPanel.add(startButton, BorderLayout.EAST);  // Right side
 
         return bottomPanel;
@@ -79,30 +124,75 @@ public class BacteriaLifeUI {
         JButton startButton = new JButton("Start");
 
         startButton.addActionListener(e -> {
+            // The logic now belongs to the simulation thread, one run per window
+            startButton.setEnabled(false);
+            displayedRound = LOGIC.getRound();
+            SimulationLoop loop = new SimulationLoop(LOGIC, ROUNDS_PER_SECOND);
 
-            final Timer timer = new Timer(100, null);
-
+            // The EDT only draws the newest round, it never steps the logic
+            final Timer timer = new Timer(FRAME_MILLIS, null);
             timer.addActionListener(ev -> {
-                int[][] oldGen = deepCopy(bacteriaGen);
-                int[][] newGen = LOGIC.generateNewGen(oldGen);
-
-
-                if (BacteriaLifeLogic.checkStableGen(oldGen, newGen)) {
+                GenSnapshot snapshot = loop.poll();
+                if (snapshot != null && showSnapshot(snapshot, roundLabel)) {
                     timer.stop();
-                    return;
                 }
-
-                // Move forward
-                bacteriaGen = newGen;
-                refreshGenPanel(); // update UI with newGen
-                roundLabel.setText("Round: " + LOGIC.getRound());
             });
 
+            loop.start(ByteGrid.copyOf(bacteriaGen));
             timer.start();
         });
         return startButton;
     }
 
+    // Draw a round from the simulation thread, returns true once the run is over
+    public boolean showSnapshot(GenSnapshot snapshot, JLabel roundLabel) {
+        // Move forward, just the changes if no round was skipped
+        boolean incremental = snapshot.round() == displayedRound + 1;
+        // Stable when nothing changed, the gen on screen is already the last one unless rounds were dropped
+        if (incremental && snapshot.changes().size() == 0) {
+            // Same cells, but the loop reuses the buffer on screen once a newer snapshot is taken
+            bacteriaGen = snapshot.gen();
+            return true;
+        }
+
+        long frameStart = System.nanoTime();
+        UiRefreshEvent event = new UiRefreshEvent();
+        event.begin();
+        bacteriaGen = snapshot.gen();
+        if (incremental) {
+            refreshCells(snapshot.changes());
+        } else {
+            refreshGenPanel();
+        }
+        if (event.shouldCommit()) {
+            event.set(snapshot.round(), bacteriaGen, snapshot.changes().size(), LOGIC.getEngine());
+            event.incremental = incremental;
+            event.commit();
+        }
+        SimulationMetrics metrics = LOGIC.getMetrics();
+        if (metrics != null) {
+            metrics.frameDrawn(System.nanoTime() - frameStart);
+        }
+        displayedRound = snapshot.round();
+        roundLabel.setText("Round: " + snapshot.round());
+        populationLabel.setText("Population: " + snapshot.population());
+
+        // Oscillators never get stable, stop once the cycle is found
+        CycleStatus status = snapshot.status();
+        if (status.isFinished()) {
+            roundLabel.setText("Round: " + snapshot.round() + " - " + status);
+        }
+        return snapshot.finished();
+    }
+
+    public JLabel getPopulationLabel() {
+        return populationLabel;
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
     // To copy the gen
     public int[][] deepCopy(int[][] bacteriaGen) {
         if (bacteriaGen == null) return null;
@@ -115,8 +205,14 @@ public class BacteriaLifeUI {
 
     // Main
     public BacteriaLifeUI(BacteriaLifeLogic logic) {
+        this(logic, RenderMode.CIRCLES);
+    }
+
+    public BacteriaLifeUI(BacteriaLifeLogic logic, RenderMode renderMode) {
         this.LOGIC = logic;
-        this.bacteriaGen = LOGIC.generateInitialGen();
+        this.renderMode = renderMode;
+        this.bacteriaGen = new IntArrayGrid(LOGIC.generateInitialGen());
+        this.DIMENSION = bacteriaGen.getRows();
 
         // Main frame
         JFrame mainFrame = new JFrame("BacteriaLife");
@@ -124,7 +220,12 @@ public class BacteriaLifeUI {
         mainFrame.setLayout(new BorderLayout());
 
         // Add the gen
-        this.genPanel = generateGen();
+        if (renderMode == RenderMode.CANVAS) {
+            this.canvas = generateCanvas();
+            this.genPanel = canvas;
+        } else {
+            this.genPanel = generateGen();
+        }
         mainFrame.add(genPanel, BorderLayout.CENTER);
 
         // Add the bottom label
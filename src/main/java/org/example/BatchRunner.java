@@ -0,0 +1,99 @@
+package org.example;
+
+import java.util.Locale;
+
+// Headless entry point, runs one simulation to stability or the round limit and prints a RunResult.
+// Only touches the logic classes, so no AWT/Swing class is ever loaded:
+//   java -cp bacteria-life.jar org.example.BatchRunner --size 1024 --seed 42 --density 0.3 --engine bitboard --rounds 5000
+public class BatchRunner {
+    // Options of Config.parse, also used by EnsembleRunner
+    static final String USAGE = "[--size N] [--seed S] [--density D] [--rounds R]"
+            + " [--engine array|bitboard|parallel|active|vector|lut[:B3/S23]|halo[:dead|torus|mirror]|incremental]";
+
+    // Settings of one run, every option has a default
+    public record Config(int size, long seed, double density, String engine, int maxRounds) {
+
+        public static Config parse(String[] args) {
+            int size = 30;
+            long seed = System.nanoTime();
+            double density = 0.5;
+            String engine = "array";
+            int maxRounds = 300;
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--size" -> size = Integer.parseInt(value);
+                    case "--seed" -> seed = Long.parseLong(value);
+                    case "--density" -> density = Double.parseDouble(value);
+                    case "--engine" -> engine = value;
+                    case "--rounds" -> maxRounds = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Unknown option: " + option);
+                }
+            }
+            if (size < 1 || maxRounds < 0 || density < 0 || density > 1) {
+                throw new IllegalArgumentException("Invalid settings: size=" + size + " rounds=" + maxRounds
+                        + " density=" + density);
+            }
+            // Unknown names fail here, with the usage, rather than in run(), which builds the engine
+            GenerationEngine.checkName(engine);
+            return new Config(size, seed, density, engine, maxRounds);
+        }
+
+        public String format() {
+            return String.format(Locale.ROOT, "size=%d seed=%d density=%s engine=%s", size, seed, density, engine);
+        }
+    }
+
+    public static void main(String[] args) {
+        Config config;
+        try {
+            config = Config.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: BatchRunner " + USAGE);
+            System.exit(2);
+            return;
+        }
+        RunResult result = run(config);
+        System.out.println(config.format() + " " + result.format());
+    }
+
+    // Run one simulation until it's stable, periodic or reaches the round limit
+    public static RunResult run(Config config) {
+        GenerationEngine engine = GenerationEngine.forName(config.engine());
+        try {
+            return run(config, engine);
+        } finally {
+            close(engine);
+        }
+    }
+
+    // Same on an engine the caller owns and closes, e.g. one reused for many runs, config.engine() isn't used
+    public static RunResult run(Config config, GenerationEngine engine) {
+        long start = System.nanoTime();
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(config.size(), engine);
+        logic.setMaxRounds(config.maxRounds());
+        logic.loadGen(logic.generateInitialGen(config.seed(), config.density()));
+
+        while (logic.getRound() < config.maxRounds() && !logic.getStatus().isFinished()) {
+            logic.step();
+        }
+        return new RunResult(logic.getRound(), logic.getPopulationStats().getPopulation(), logic.getStatus(),
+                System.nanoTime() - start);
+    }
+
+    // Engines with threads of their own, e.g. ParallelEngine, are shut down after the run
+    static void close(GenerationEngine engine) {
+        if (engine instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Couldn't close engine " + engine.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package org.example;
+
+// Engine that keeps a generation as long[] bitboards, 64 cells per word.
+// Bit j % 64 of word j / 64 in a row is the cell in column j, rows are stored one after another.
+// The board stays packed between steps like ActiveRegionEngine remembers its tiles: when gen is the newGen
+// of the previous step it isn't packed again, and when newGen is the gen before (ping-pong buffers, as in
+// BacteriaLifeLogic.step) only the cells that differ from it are written. Anything else packs and unpacks
+// the whole grid. Call reset() after editing a gen by hand. Not thread safe.
+public class BitBoardEngine implements GenerationEngine {
+    // The gen before board, board and the board being computed
+    private long[] previousBoard = new long[0];
+    private long[] board = new long[0];
+    private long[] newBoard = new long[0];
+    // The arrays or grids of the last call
+    private Object lastGen;
+    private Object lastNewGen;
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        return stepBoards(gen, newGen, rows, rows == 0 ? 0 : gen[0].length, changes);
+    }
+
+    // Packs straight from the rows of any backend, no int[][] in between
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof IntArrayGrid in && newGen instanceof IntArrayGrid out) {
+            return step(in.getArray(), out.getArray(), changes);
+        }
+        return stepBoards(gen, newGen, gen.getRows(), gen.getCols(), changes);
+    }
+
+    // gen and newGen are both int[][] or both Grid
+    private int stepBoards(Object gen, Object newGen, int rows, int cols, ChangeSet changes) {
+        int size = rows * wordsPerRow(cols);
+        boolean continuing = gen == lastNewGen && board.length == size;
+        boolean newGenIsPrevious = continuing && newGen == lastGen;
+        if (board.length != size) {
+            previousBoard = new long[size];
+            board = new long[size];
+            newBoard = new long[size];
+        }
+        if (!continuing) {
+            if (gen instanceof int[][] ints) {
+                pack(ints, board);
+            } else {
+                pack((Grid) gen, board);
+            }
+        }
+        long changed = stepRows(board, newBoard, rows, cols, 0, rows, changes);
+
+        if (newGenIsPrevious) {
+            writeDifferences(previousBoard, newBoard, cols, newGen);
+        } else if (newGen instanceof int[][] ints) {
+            unpack(newBoard, ints);
+        } else {
+            unpack(newBoard, (Grid) newGen);
+        }
+        long[] swap = previousBoard;
+        previousBoard = board;
+        board = newBoard;
+        newBoard = swap;
+        lastGen = gen;
+        lastNewGen = newGen;
+        return (int) changed;
+    }
+
+    // Forget the last step, the next one packs gen again
+    public void reset() {
+        lastGen = null;
+        lastNewGen = null;
+    }
+
+    // Writes the cells where next differs from the board gen holds, a word at a time
+    private static void writeDifferences(long[] old, long[] next, int cols, Object gen) {
+        int stride = wordsPerRow(cols);
+        for (int k = 0; k < next.length; k++) {
+            long diff = old[k] ^ next[k];
+            int i = k / stride;
+            int base = (k % stride) << 6;
+            while (diff != 0) {
+                int bit = Long.numberOfTrailingZeros(diff);
+                int bacteria = (int) (next[k] >>> bit) & 1;
+                if (gen instanceof int[][] ints) {
+                    ints[i][base + bit] = bacteria;
+                } else {
+                    ((Grid) gen).set(i, base + bit, bacteria);
+                }
+                diff &= diff - 1;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "bitboard";
+    }
+
+    // Number of words needed for one row
+    public static int wordsPerRow(int cols) {
+        return (cols + 63) >>> 6;
+    }
+
+    // Mask of the valid cells in the last word of a row
+    public static long lastWordMask(int cols) {
+        int rest = cols & 63;
+        return rest == 0 ? -1L : (1L << rest) - 1;
+    }
+
+    // Packs an int[][] generation into a new board
+    public static long[] pack(int[][] gen) {
+        int cols = gen.length == 0 ? 0 : gen[0].length;
+        long[] packed = new long[gen.length * wordsPerRow(cols)];
+        pack(gen, packed);
+        return packed;
+    }
+
+    // Packs an int[][] generation into an existing board
+    public static void pack(int[][] gen, long[] board) {
+        int stride = gen.length == 0 ? 0 : wordsPerRow(gen[0].length);
+        for (int i = 0; i < gen.length; i++) {
+            int[] row = gen[i];
+            int base = i * stride;
+            for (int w = 0; w < stride; w++) {
+                long word = 0;
+                int end = Math.min(64, row.length - (w << 6));
+                for (int b = 0; b < end; b++) {
+                    word |= (long) (row[(w << 6) + b] & 1) << b;
+                }
+                board[base + w] = word;
+            }
+        }
+    }
+
+    // Packs a generation of any backend into an existing board
+    public static void pack(Grid gen, long[] board) {
+        int cols = gen.getCols();
+        int stride = wordsPerRow(cols);
+        byte[] row = new byte[cols];
+        for (int i = 0; i < gen.getRows(); i++) {
+            gen.readRow(i, row);
+            int base = i * stride;
+            for (int w = 0; w < stride; w++) {
+                long word = 0;
+                int end = Math.min(64, cols - (w << 6));
+                for (int b = 0; b < end; b++) {
+                    word |= (long) (row[(w << 6) + b] & 1) << b;
+                }
+                board[base + w] = word;
+            }
+        }
+    }
+
+    // Unpacks a board into a generation of any backend
+    public static void unpack(long[] board, Grid gen) {
+        int cols = gen.getCols();
+        int stride = wordsPerRow(cols);
+        byte[] row = new byte[cols];
+        for (int i = 0; i < gen.getRows(); i++) {
+            int base = i * stride;
+            for (int j = 0; j < cols; j++) {
+                row[j] = (byte) ((board[base + (j >>> 6)] >>> j) & 1);
+            }
+            gen.writeRow(i, row);
+        }
+    }
+
+    // Unpacks a board back into an int[][] generation
+    public static void unpack(long[] board, int[][] gen) {
+        int stride = gen.length == 0 ? 0 : wordsPerRow(gen[0].length);
+        for (int i = 0; i < gen.length; i++) {
+            int[] row = gen[i];
+            int base = i * stride;
+            for (int j = 0; j < row.length; j++) {
+                row[j] = (int) (board[base + (j >>> 6)] >>> j) & 1;
+            }
+        }
+    }
+
+    // Computes the next board, cells outside the grid count as dead. Returns the changed cells.
+    public static long stepBoard(long[] board, long[] newBoard, int rows, int cols) {
+        return stepRows(board, newBoard, rows, cols, 0, rows, null);
+    }
+
+    // Computes rows [fromRow, toRow) of the next board, returns how many cells changed in them
+    // and adds them to changes unless it's null
+    public static long stepRows(long[] board, long[] newBoard, int rows, int cols, int fromRow, int toRow,
+                                ChangeSet changes) {
+        int stride = wordsPerRow(cols);
+        long mask = lastWordMask(cols);
+        long changed = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            int up = (i - 1) * stride;
+            int mid = i * stride;
+            int down = (i + 1) * stride;
+            boolean hasUp = i > 0;
+            boolean hasDown = i < rows - 1;
+            for (int w = 0; w < stride; w++) {
+                boolean hasLeft = w > 0;
+                boolean hasRight = w < stride - 1;
+                long next = nextWord(
+                        hasUp && hasLeft ? board[up + w - 1] : 0,
+                        hasUp ? board[up + w] : 0,
+                        hasUp && hasRight ? board[up + w + 1] : 0,
+                        hasLeft ? board[mid + w - 1] : 0,
+                        board[mid + w],
+                        hasRight ? board[mid + w + 1] : 0,
+                        hasDown && hasLeft ? board[down + w - 1] : 0,
+                        hasDown ? board[down + w] : 0,
+                        hasDown && hasRight ? board[down + w + 1] : 0);
+                if (!hasRight) {
+                    next &= mask;
+                }
+                newBoard[mid + w] = next;
+                long diff = next ^ board[mid + w];
+                changed += Long.bitCount(diff);
+                if (changes != null) {
+                    while (diff != 0) {
+                        changes.add(i, (w << 6) + Long.numberOfTrailingZeros(diff));
+                        diff &= diff - 1;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Computes one row from separate row arrays, above or below is null at the grid's edge.
+    // Used by grids that don't keep the whole board in one array, returns how many cells changed.
+    static long stepRow(long[] above, long[] row, long[] below, long[] newRow, int stride, long mask) {
+        long changed = 0;
+        for (int w = 0; w < stride; w++) {
+            boolean hasLeft = w > 0;
+            boolean hasRight = w < stride - 1;
+            long next = nextWord(
+                    above != null && hasLeft ? above[w - 1] : 0,
+                    above != null ? above[w] : 0,
+                    above != null && hasRight ? above[w + 1] : 0,
+                    hasLeft ? row[w - 1] : 0,
+                    row[w],
+                    hasRight ? row[w + 1] : 0,
+                    below != null && hasLeft ? below[w - 1] : 0,
+                    below != null ? below[w] : 0,
+                    below != null && hasRight ? below[w + 1] : 0);
+            if (!hasRight) {
+                next &= mask;
+            }
+            newRow[w] = next;
+            changed += Long.bitCount(next ^ row[w]);
+        }
+        return changed;
+    }
+
+    // Next state of the 64 cells in centre, given the words around it.
+    // Counts the 8 neighbours of every bit at once with a bit-sliced adder (ones, twos, four or more).
+    static long nextWord(long aboveLeft, long above, long aboveRight,
+                         long left, long centre, long right,
+                         long belowLeft, long below, long belowRight) {
+        // Neighbour j-1 lands on bit j after a left shift, neighbour j+1 after a right shift
+        long n0 = (above << 1) | (aboveLeft >>> 63);
+        long n1 = above;
+        long n2 = (above >>> 1) | (aboveRight << 63);
+        long n3 = (centre << 1) | (left >>> 63);
+        long n4 = (centre >>> 1) | (right << 63);
+        long n5 = (below << 1) | (belowLeft >>> 63);
+        long n6 = below;
+        long n7 = (below >>> 1) | (belowRight << 63);
+
+        long ones = n0;
+        long twos = 0;
+        long more = 0;
+        long carry;
+        carry = ones & n1; ones ^= n1; more |= twos & carry; twos ^= carry;
+        carry = ones & n2; ones ^= n2; more |= twos & carry; twos ^= carry;
+        carry = ones & n3; ones ^= n3; more |= twos & carry; twos ^= carry;
+        carry = ones & n4; ones ^= n4; more |= twos & carry; twos ^= carry;
+        carry = ones & n5; ones ^= n5; more |= twos & carry; twos ^= carry;
+        carry = ones & n6; ones ^= n6; more |= twos & carry; twos ^= carry;
+        carry = ones & n7; ones ^= n7; more |= twos & carry; twos ^= carry;
+
+        // Nacimiento with 3, supervivencia with 2 or 3, everything else dies (soledad or asfixia)
+        return ~more & twos & (ones | centre);
+    }
+}
@@ -0,0 +1,112 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Default Grid: one byte per cell in a single row-major array, a quarter of int[][] and no row pointers to follow
+public final class ByteGrid implements Grid {
+    private final int rows;
+    private final int cols;
+    private final byte[] cells;
+
+    public ByteGrid(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new byte[rows * cols];
+    }
+
+    // Copy of an int[][] gen
+    public static ByteGrid copyOf(int[][] gen) {
+        ByteGrid grid = new ByteGrid(gen.length, gen.length == 0 ? 0 : gen[0].length);
+        for (int i = 0; i < grid.rows; i++) {
+            int[] row = gen[i];
+            int base = i * grid.cols;
+            for (int j = 0; j < grid.cols; j++) {
+                grid.cells[base + j] = (byte) row[j];
+            }
+        }
+        return grid;
+    }
+
+    // Copy of any grid
+    public static ByteGrid copyOf(Grid other) {
+        ByteGrid grid = new ByteGrid(other.getRows(), other.getCols());
+        grid.copyFrom(other);
+        return grid;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getCols() {
+        return cols;
+    }
+
+    @Override
+    public int get(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    @Override
+    public void set(int row, int col, int bacteria) {
+        cells[row * cols + col] = (byte) bacteria;
+    }
+
+    @Override
+    public void readRow(int row, byte[] cells) {
+        System.arraycopy(this.cells, row * cols, cells, 0, cols);
+    }
+
+    @Override
+    public void writeRow(int row, byte[] cells) {
+        System.arraycopy(cells, 0, this.cells, row * cols, cols);
+    }
+
+    @Override
+    public void copyFrom(Grid other) {
+        if (other instanceof ByteGrid grid && grid.cells.length == cells.length) {
+            System.arraycopy(grid.cells, 0, cells, 0, cells.length);
+        } else {
+            Grid.super.copyFrom(other);
+        }
+    }
+
+    @Override
+    public ByteGrid copy() {
+        ByteGrid copy = new ByteGrid(rows, cols);
+        System.arraycopy(cells, 0, copy.cells, 0, cells.length);
+        return copy;
+    }
+
+    @Override
+    public ByteGrid emptyCopy() {
+        return new ByteGrid(rows, cols);
+    }
+
+    @Override
+    public long population() {
+        long population = 0;
+        for (byte bacteria : cells) {
+            population += bacteria;
+        }
+        return population;
+    }
+
+    @Override
+    public boolean sameCells(Grid other) {
+        if (other instanceof ByteGrid grid) {
+            return rows == grid.rows && cols == grid.cols && Arrays.equals(cells, grid.cells);
+        }
+        return Grid.super.sameCells(other);
+    }
+
+    // The backing array, row i starts at i * getCols(). Engines read and write it directly.
+    public byte[] getCells() {
+        return cells;
+    }
+}
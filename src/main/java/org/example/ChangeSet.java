@@ -0,0 +1,53 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Cells flipped by one step, in no particular order. Stored as row * columns + col and reused between steps.
+public class ChangeSet {
+    private int[] cells = new int[64];
+    private int size;
+    private int columns;
+
+    // Empty the set for a grid with this many columns, keeps the storage
+    public void clear(int columns) {
+        this.columns = columns;
+        this.size = 0;
+    }
+
+    public void add(int row, int col) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+        }
+        cells[size++] = row * columns + col;
+    }
+
+    // Append every cell of another set of the same grid
+    public void addAll(ChangeSet other) {
+        if (size + other.size > cells.length) {
+            cells = Arrays.copyOf(cells, Math.max(size + other.size, cells.length * 2));
+        }
+        System.arraycopy(other.cells, 0, cells, size, other.size);
+        size += other.size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    // Cell i as row * columns + col
+    public int getIndex(int i) {
+        return cells[i];
+    }
+
+    public int getRow(int i) {
+        return cells[i] / columns;
+    }
+
+    public int getCol(int i) {
+        return cells[i] % columns;
+    }
+}
@@ -0,0 +1,257 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+// Unbounded world made of 64x64 chunks kept in a hash map by chunk coordinates, nothing dies at an edge.
+// A chunk is a long[64], one word per row in the BitBoardEngine bit order, and is stepped with
+// BitBoardEngine.nextWord using the rows of its eight neighbours. Chunks are only created when live cells
+// touch their border and dropped once they're empty, so memory and step time follow the live region.
+// Not thread safe.
+public class ChunkedWorld {
+    public static final int CHUNK_SIZE = 64;
+    private static final long[] EMPTY = new long[CHUNK_SIZE];
+    // Freed chunk arrays kept for reuse, the rest goes to the GC
+    private static final int MAX_FREE = 1024;
+
+    private Map<Long, long[]> chunks = new HashMap<>();
+    private Map<Long, long[]> nextChunks = new HashMap<>();
+    // Arrays of freed chunks, reused for new ones
+    private final ArrayDeque<long[]> free = new ArrayDeque<>();
+    private final Set<Long> toCompute = new HashSet<>();
+    private long generation;
+
+    // Loads a gen with its top left cell at row 0, col 0
+    public void loadGen(int[][] gen) {
+        chunks.clear();
+        generation = 0;
+        for (int i = 0; i < gen.length; i++) {
+            for (int j = 0; j < gen[i].length; j++) {
+                if (gen[i][j] == 1) {
+                    setCell(i, j, 1);
+                }
+            }
+        }
+    }
+
+    public int getCell(long row, long col) {
+        long[] chunk = chunks.get(key(chunkOf(row), chunkOf(col)));
+        return chunk == null ? 0 : (int) (chunk[(int) (row & 63)] >>> col) & 1;
+    }
+
+    public void setCell(long row, long col, int bacteria) {
+        long key = key(chunkOf(row), chunkOf(col));
+        long[] chunk = chunks.get(key);
+        if (chunk == null) {
+            if (bacteria == 0) {
+                return;
+            }
+            chunk = allocate();
+            chunks.put(key, chunk);
+        }
+        long bit = 1L << col;
+        int r = (int) (row & 63);
+        chunk[r] = bacteria == 1 ? chunk[r] | bit : chunk[r] & ~bit;
+    }
+
+    // Moves one round forward, returns how many cells changed
+    public long step() {
+        // Every chunk plus the missing neighbours its border cells could give birth in
+        toCompute.clear();
+        for (Map.Entry<Long, long[]> entry : chunks.entrySet()) {
+            long key = entry.getKey();
+            long[] chunk = entry.getValue();
+            toCompute.add(key);
+            int cy = chunkRow(key);
+            int cx = chunkCol(key);
+            long westEdge = 0;
+            long eastEdge = 0;
+            for (long word : chunk) {
+                westEdge |= word & 1;
+                eastEdge |= word >>> 63;
+            }
+            long top = chunk[0];
+            long bottom = chunk[CHUNK_SIZE - 1];
+            if (top != 0) toCompute.add(key(cy - 1, cx));
+            if (bottom != 0) toCompute.add(key(cy + 1, cx));
+            if (westEdge != 0) toCompute.add(key(cy, cx - 1));
+            if (eastEdge != 0) toCompute.add(key(cy, cx + 1));
+            if ((top & 1) != 0) toCompute.add(key(cy - 1, cx - 1));
+            if ((top >>> 63) != 0) toCompute.add(key(cy - 1, cx + 1));
+            if ((bottom & 1) != 0) toCompute.add(key(cy + 1, cx - 1));
+            if ((bottom >>> 63) != 0) toCompute.add(key(cy + 1, cx + 1));
+        }
+
+        long changed = 0;
+        nextChunks.clear();
+        for (long key : toCompute) {
+            long[] next = allocate();
+            changed += stepChunk(chunkRow(key), chunkCol(key), next);
+            if (isEmpty(next)) {
+                release(next);
+            } else {
+                nextChunks.put(key, next);
+            }
+        }
+        for (long[] chunk : chunks.values()) {
+            release(chunk);
+        }
+        Map<Long, long[]> swap = chunks;
+        chunks = nextChunks;
+        nextChunks = swap;
+        generation++;
+        return changed;
+    }
+
+    // Copy of a window of the world
+    public int[][] toArray(long top, long left, int rows, int cols) {
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = getCell(top + i, left + j);
+            }
+        }
+        return gen;
+    }
+
+    // Smallest rectangle holding every live cell as {minRow, minCol, maxRow, maxCol}, null when empty
+    public long[] getBounds() {
+        long[] bounds = null;
+        for (Map.Entry<Long, long[]> entry : chunks.entrySet()) {
+            long rowBase = (long) chunkRow(entry.getKey()) * CHUNK_SIZE;
+            long colBase = (long) chunkCol(entry.getKey()) * CHUNK_SIZE;
+            long[] chunk = entry.getValue();
+            for (int r = 0; r < CHUNK_SIZE; r++) {
+                if (chunk[r] == 0) {
+                    continue;
+                }
+                long row = rowBase + r;
+                long minCol = colBase + Long.numberOfTrailingZeros(chunk[r]);
+                long maxCol = colBase + 63 - Long.numberOfLeadingZeros(chunk[r]);
+                if (bounds == null) {
+                    bounds = new long[]{row, minCol, row, maxCol};
+                } else {
+                    bounds[0] = Math.min(bounds[0], row);
+                    bounds[1] = Math.min(bounds[1], minCol);
+                    bounds[2] = Math.max(bounds[2], row);
+                    bounds[3] = Math.max(bounds[3], maxCol);
+                }
+            }
+        }
+        return bounds;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getPopulation() {
+        long population = 0;
+        for (long[] chunk : chunks.values()) {
+            for (long word : chunk) {
+                population += Long.bitCount(word);
+            }
+        }
+        return population;
+    }
+
+    // Chunks currently allocated, each one 64x64 cells
+    public int getChunkCount() {
+        return chunks.size();
+    }
+
+    // Next state of one chunk into next, returns how many of its cells changed
+    private long stepChunk(int cy, int cx, long[] next) {
+        long[] centre = chunkOrEmpty(cy, cx);
+        long[] north = chunkOrEmpty(cy - 1, cx);
+        long[] south = chunkOrEmpty(cy + 1, cx);
+        long[] west = chunkOrEmpty(cy, cx - 1);
+        long[] east = chunkOrEmpty(cy, cx + 1);
+        long[] northWest = chunkOrEmpty(cy - 1, cx - 1);
+        long[] northEast = chunkOrEmpty(cy - 1, cx + 1);
+        long[] southWest = chunkOrEmpty(cy + 1, cx - 1);
+        long[] southEast = chunkOrEmpty(cy + 1, cx + 1);
+
+        long changed = 0;
+        for (int r = 0; r < CHUNK_SIZE; r++) {
+            long aboveLeft;
+            long above;
+            long aboveRight;
+            if (r == 0) {
+                aboveLeft = northWest[CHUNK_SIZE - 1];
+                above = north[CHUNK_SIZE - 1];
+                aboveRight = northEast[CHUNK_SIZE - 1];
+            } else {
+                aboveLeft = west[r - 1];
+                above = centre[r - 1];
+                aboveRight = east[r - 1];
+            }
+            long belowLeft;
+            long below;
+            long belowRight;
+            if (r == CHUNK_SIZE - 1) {
+                belowLeft = southWest[0];
+                below = south[0];
+                belowRight = southEast[0];
+            } else {
+                belowLeft = west[r + 1];
+                below = centre[r + 1];
+                belowRight = east[r + 1];
+            }
+            next[r] = BitBoardEngine.nextWord(aboveLeft, above, aboveRight,
+                    west[r], centre[r], east[r],
+                    belowLeft, below, belowRight);
+            changed += Long.bitCount(next[r] ^ centre[r]);
+        }
+        return changed;
+    }
+
+    private long[] chunkOrEmpty(int cy, int cx) {
+        long[] chunk = chunks.get(key(cy, cx));
+        return chunk == null ? EMPTY : chunk;
+    }
+
+    private long[] allocate() {
+        long[] chunk = free.poll();
+        if (chunk == null) {
+            return new long[CHUNK_SIZE];
+        }
+        Arrays.fill(chunk, 0);
+        return chunk;
+    }
+
+    private void release(long[] chunk) {
+        if (free.size() < MAX_FREE) {
+            free.push(chunk);
+        }
+    }
+
+    private static boolean isEmpty(long[] chunk) {
+        for (long word : chunk) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int chunkOf(long cell) {
+        return (int) (cell >> 6);
+    }
+
+    private static long key(int chunkRow, int chunkCol) {
+        return ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+    }
+
+    private static int chunkRow(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int chunkCol(long key) {
+        return (int) key;
+    }
+}
@@ -0,0 +1,161 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Detects stable and periodic gens without keeping copies of them.
+// Every gen gets a Zobrist-style hash, the xor of a random key per live cell, which is updated
+// only for the cells a step flipped. The hashes of the last maxPeriod rounds are kept, so any
+// cycle up to that period is found the first round it repeats. Two different gens could in
+// theory share a 64-bit hash, the chance is negligible for our runs.
+// Rounds are looked up by hash in an open-addressed table of primitives, at most half full,
+// so an update doesn't allocate.
+public class CycleDetector {
+    private final int maxPeriod;
+    private final long seed;
+    // Hash of the last maxPeriod rounds, by round % maxPeriod
+    private final long[] history;
+    // Latest round of every hash in history, linear probing
+    private final long[] tableHashes;
+    private final int[] tableRounds;
+    private final boolean[] tableUsed;
+    private final int tableMask;
+    private long hash;
+    private int round;
+    private CycleStatus status = CycleStatus.EVOLVING;
+
+    public CycleDetector(int maxPeriod) {
+        this(maxPeriod, 0x9E3779B97F4A7C15L);
+    }
+
+    public CycleDetector(int maxPeriod, long seed) {
+        if (maxPeriod < 1) {
+            throw new IllegalArgumentException("Max period must be at least 1: " + maxPeriod);
+        }
+        this.maxPeriod = maxPeriod;
+        this.seed = seed;
+        this.history = new long[maxPeriod];
+        int capacity = Integer.highestOneBit(Math.max(1, maxPeriod - 1)) << 2;
+        this.tableHashes = new long[capacity];
+        this.tableRounds = new int[capacity];
+        this.tableUsed = new boolean[capacity];
+        this.tableMask = capacity - 1;
+    }
+
+    // Start again from a gen at a round, the only full pass over the grid
+    public void reset(int[][] gen, int round) {
+        reset(new IntArrayGrid(gen), round);
+    }
+
+    public void reset(Grid gen, int round) {
+        Arrays.fill(tableUsed, false);
+        status = CycleStatus.EVOLVING;
+        hash = 0;
+        int cols = gen.getCols();
+        byte[] row = new byte[cols];
+        for (int i = 0; i < gen.getRows(); i++) {
+            gen.readRow(i, row);
+            for (int j = 0; j < cols; j++) {
+                if (row[j] == 1) {
+                    hash ^= key(i * cols + j);
+                }
+            }
+        }
+        this.round = round;
+        remember();
+    }
+
+    // Record the next round from the cells its step flipped
+    public CycleStatus update(ChangeSet changes) {
+        for (int i = 0; i < changes.size(); i++) {
+            hash ^= key(changes.getIndex(i));
+        }
+        round++;
+        if (!status.isFinished()) {
+            int slot = find(hash);
+            if (slot >= 0) {
+                int seen = tableRounds[slot];
+                status = CycleStatus.repeating(round - seen, seen);
+            }
+        }
+        remember();
+        return status;
+    }
+
+    public CycleStatus getStatus() {
+        return status;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public int getMaxPeriod() {
+        return maxPeriod;
+    }
+
+    // Store the current hash, forgetting the one from maxPeriod rounds ago
+    private void remember() {
+        int slot = round % maxPeriod;
+        int oldRound = round - maxPeriod;
+        if (oldRound >= 0) {
+            // Unless the hash was seen again since
+            int old = find(history[slot]);
+            if (old >= 0 && tableRounds[old] == oldRound) {
+                delete(old);
+            }
+        }
+        history[slot] = hash;
+        int found = find(hash);
+        if (found < 0) {
+            found = home(hash);
+            while (tableUsed[found]) {
+                found = (found + 1) & tableMask;
+            }
+            tableUsed[found] = true;
+            tableHashes[found] = hash;
+        }
+        tableRounds[found] = round;
+    }
+
+    private int home(long h) {
+        return (int) (h ^ (h >>> 32)) & tableMask;
+    }
+
+    // Slot of a hash in the table, -1 if it's not there
+    private int find(long h) {
+        for (int i = home(h); tableUsed[i]; i = (i + 1) & tableMask) {
+            if (tableHashes[i] == h) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Empties a slot and moves later entries of the probe run back, so find() never stops early
+    private void delete(int slot) {
+        int j = slot;
+        while (true) {
+            j = (j + 1) & tableMask;
+            if (!tableUsed[j]) {
+                break;
+            }
+            int home = home(tableHashes[j]);
+            // Entries whose home lies cyclically in (slot, j] are still reachable where they are
+            boolean reachable = slot <= j ? slot < home && home <= j : slot < home || home <= j;
+            if (!reachable) {
+                tableHashes[slot] = tableHashes[j];
+                tableRounds[slot] = tableRounds[j];
+                slot = j;
+            }
+        }
+        tableUsed[slot] = false;
+    }
+
+    // Random key of a cell, SplitMix64 of its index so no table is needed
+    private long key(int cell) {
+        long z = seed + (cell + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
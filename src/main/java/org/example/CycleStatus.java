@@ -0,0 +1,28 @@
+package org.example;
+
+// What the cycle detection knows about a run after a step
+public record CycleStatus(State state, int period, int since) {
+
+    public enum State { EVOLVING, STABLE, PERIODIC }
+
+    public static final CycleStatus EVOLVING = new CycleStatus(State.EVOLVING, 0, -1);
+
+    // Gen at round since repeats every period rounds, period 1 is a stable gen
+    public static CycleStatus repeating(int period, int since) {
+        return new CycleStatus(period == 1 ? State.STABLE : State.PERIODIC, period, since);
+    }
+
+    // True once the run is stable or periodic
+    public boolean isFinished() {
+        return state != State.EVOLVING;
+    }
+
+    @Override
+    public String toString() {
+        return switch (state) {
+            case EVOLVING -> "still evolving";
+            case STABLE -> "stable since round " + since;
+            case PERIODIC -> "periodic (period " + period + ", since round " + since + ")";
+        };
+    }
+}
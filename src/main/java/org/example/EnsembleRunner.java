@@ -0,0 +1,166 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs many independent seeded simulations on a fixed number of threads.
+// Every worker owns its BacteriaLifeLogic instances and folds each result into its own EnsembleStats,
+// which are merged at the end, so memory doesn't grow with the number of runs.
+// Run i always gets the same seed, whatever the number of threads.
+public class EnsembleRunner implements AutoCloseable {
+    private final ExecutorService executor;
+    private final int threads;
+
+    public EnsembleRunner(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is needed: " + threads);
+        }
+        this.threads = threads;
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bacteria-ensemble");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // runs simulations of one density, with seeds derived from baseSeed.
+    // Every worker builds one engine and reuses it for all its runs.
+    public EnsembleStats run(int size, double density, int runs, long baseSeed, String engine, int maxRounds)
+            throws InterruptedException {
+        checkEngine(engine, threads);
+        AtomicInteger nextRun = new AtomicInteger();
+        List<Future<EnsembleStats>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                EnsembleStats stats = new EnsembleStats(maxRounds, (long) size * size);
+                GenerationEngine stepper = GenerationEngine.forName(engine);
+                try {
+                    int run;
+                    while ((run = nextRun.getAndIncrement()) < runs) {
+                        BatchRunner.Config config = new BatchRunner.Config(size, seedOf(baseSeed, run), density,
+                                engine, maxRounds);
+                        stats.add(BatchRunner.run(config, stepper));
+                    }
+                } finally {
+                    BatchRunner.close(stepper);
+                }
+                return stats;
+            }));
+        }
+
+        EnsembleStats total = new EnsembleStats(maxRounds, (long) size * size);
+        for (Future<EnsembleStats> worker : workers) {
+            try {
+                total.merge(worker.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Simulation failed", e.getCause());
+            }
+        }
+        return total;
+    }
+
+    // Same ensemble for each density, in the given order
+    public Map<Double, EnsembleStats> sweep(int size, double[] densities, int runs, long baseSeed, String engine,
+                                            int maxRounds) throws InterruptedException {
+        Map<Double, EnsembleStats> results = new LinkedHashMap<>();
+        for (double density : densities) {
+            results.put(density, run(size, density, runs, baseSeed, engine, maxRounds));
+        }
+        return results;
+    }
+
+    // ParallelEngine has a thread per core already, next to other workers it would only oversubscribe them
+    private static void checkEngine(String engine, int threads) {
+        if (engine.equals("parallel") && threads > 1) {
+            throw new IllegalArgumentException("The parallel engine needs --threads 1, got " + threads);
+        }
+    }
+
+    // Seed of run i, SplitMix64 so neighbouring runs get unrelated seeds
+    static long seedOf(long baseSeed, int run) {
+        long z = baseSeed + (run + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // Settings of a sweep: BatchRunner's options, where --density takes a comma-separated list, plus runs and threads
+    public record Options(BatchRunner.Config run, double[] densities, int runs, int threads) {
+        static final String USAGE = BatchRunner.USAGE.replace("[--density D]", "[--density D[,D...]]")
+                + " [--runs N] [--threads T]";
+
+        public static Options parse(String[] args) {
+            int runs = 100;
+            int threads = Runtime.getRuntime().availableProcessors();
+            String densities = null;
+            List<String> rest = new ArrayList<>();
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--runs" -> runs = Integer.parseInt(value);
+                    case "--threads" -> threads = Integer.parseInt(value);
+                    case "--density" -> densities = value;
+                    default -> {
+                        rest.add(option);
+                        rest.add(value);
+                    }
+                }
+            }
+            if (runs < 1 || threads < 1) {
+                throw new IllegalArgumentException("Invalid settings: runs=" + runs + " threads=" + threads);
+            }
+            BatchRunner.Config run = BatchRunner.Config.parse(rest.toArray(new String[0]));
+            checkEngine(run.engine(), threads);
+            if (densities == null) {
+                return new Options(run, new double[]{run.density()}, runs, threads);
+            }
+            String[] values = densities.split(",");
+            double[] parsed = new double[values.length];
+            for (int d = 0; d < values.length; d++) {
+                parsed[d] = Double.parseDouble(values[d].trim());
+                if (parsed[d] < 0 || parsed[d] > 1) {
+                    throw new IllegalArgumentException("Invalid density: " + values[d].trim());
+                }
+            }
+            return new Options(run, parsed, runs, threads);
+        }
+    }
+
+    // Density sweep from the command line:
+    //   java -cp bacteria-life.jar org.example.EnsembleRunner --size 128 --runs 1000 --threads 8 --seed 42 --density 0.1,0.3,0.5
+    public static void main(String[] args) throws InterruptedException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("Usage: EnsembleRunner " + Options.USAGE);
+            System.exit(2);
+            return;
+        }
+        BatchRunner.Config run = options.run();
+        try (EnsembleRunner runner = new EnsembleRunner(options.threads())) {
+            Map<Double, EnsembleStats> results = runner.sweep(run.size(), options.densities(), options.runs(),
+                    run.seed(), run.engine(), run.maxRounds());
+            results.forEach((density, stats) ->
+                    System.out.println(String.format(Locale.ROOT, "density=%.3f ", density) + stats.format()));
+        }
+    }
+}
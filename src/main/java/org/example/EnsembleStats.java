@@ -0,0 +1,83 @@
+package org.example;
+
+import java.util.Locale;
+
+// Aggregated results of many runs with the same settings, constant size whatever the number of runs
+public class EnsembleStats {
+    private static final int BINS = 50;
+
+    private final SummaryStats rounds = new SummaryStats();
+    private final SummaryStats population = new SummaryStats();
+    private final SummaryStats wallMillis = new SummaryStats();
+    private final Histogram roundsHistogram;
+    private final Histogram populationHistogram;
+    private long survived;
+    private long settled;
+
+    // maxRounds and cells bound the histograms
+    public EnsembleStats(int maxRounds, long cells) {
+        this.roundsHistogram = new Histogram(0, maxRounds + 1, Math.min(BINS, maxRounds + 1));
+        this.populationHistogram = new Histogram(0, cells + 1, (int) Math.min(BINS, cells + 1));
+    }
+
+    public void add(RunResult result) {
+        rounds.add(result.rounds());
+        population.add(result.population());
+        wallMillis.add(result.wallNanos() / 1_000_000.0);
+        roundsHistogram.add(result.rounds());
+        populationHistogram.add(result.population());
+        if (result.population() > 0) survived++;
+        if (result.status().isFinished()) settled++;
+    }
+
+    // Fold another partial result into this one
+    public void merge(EnsembleStats other) {
+        rounds.merge(other.rounds);
+        population.merge(other.population);
+        wallMillis.merge(other.wallMillis);
+        roundsHistogram.merge(other.roundsHistogram);
+        populationHistogram.merge(other.populationHistogram);
+        survived += other.survived;
+        settled += other.settled;
+    }
+
+    public long getRuns() {
+        return rounds.getCount();
+    }
+
+    // Rounds until stable or periodic, or the limit
+    public SummaryStats getRounds() {
+        return rounds;
+    }
+
+    public SummaryStats getPopulation() {
+        return population;
+    }
+
+    public SummaryStats getWallMillis() {
+        return wallMillis;
+    }
+
+    public Histogram getRoundsHistogram() {
+        return roundsHistogram;
+    }
+
+    public Histogram getPopulationHistogram() {
+        return populationHistogram;
+    }
+
+    // Share of runs that still have live cells at the end
+    public double getSurvivalRate() {
+        return getRuns() == 0 ? Double.NaN : (double) survived / getRuns();
+    }
+
+    // Share of runs that got stable or periodic before the limit
+    public double getSettledRate() {
+        return getRuns() == 0 ? Double.NaN : (double) settled / getRuns();
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT, "runs=%d survival=%.3f settled=%.3f rounds[%s] population[%s]",
+                getRuns(), getSurvivalRate(), getSettledRate(), rounds, population);
+    }
+}
@@ -0,0 +1,145 @@
+package org.example;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+
+import static org.example.BacteriaLifeUI.BACTERIA_SIZE;
+import static org.example.BacteriaLifeUI.BG_COLOR;
+
+// Draws a whole generation into one image instead of one Circle per cell.
+// Cells are written straight into the image's pixel array from two prepared sprites (alive and dead),
+// round bacteria while there's room for them and plain pixels on big grids.
+public class GenCanvas extends JPanel {
+    // Gap between cells, same as the GridLayout of the Circle view
+    static final int GAP = 3;
+    // Biggest image side before cells get smaller
+    static final int MAX_IMAGE_SIZE = 900;
+
+    private final int rows;
+    private final int cols;
+    private final int pitch;
+    private final BufferedImage image;
+    private final int[] pixels;
+    private final int[] aliveSprite;
+    private final int[] deadSprite;
+
+    public GenCanvas(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.pitch = pitchFor(Math.max(rows, cols));
+        this.image = new BufferedImage(Math.max(1, cols * pitch), Math.max(1, rows * pitch), BufferedImage.TYPE_INT_RGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.aliveSprite = sprite(Color.BLACK.getRGB());
+        this.deadSprite = sprite(Color.WHITE.getRGB());
+        setBackground(BG_COLOR);
+        setBorder(BorderFactory.createEmptyBorder(30, 30, 30, 30));
+    }
+
+    // Pixels per cell, the Circle look (bacteria plus gap) when it fits
+    static int pitchFor(int dimension) {
+        int full = BACTERIA_SIZE + GAP;
+        if (dimension * full <= MAX_IMAGE_SIZE) {
+            return full;
+        }
+        return Math.max(1, MAX_IMAGE_SIZE / Math.max(1, dimension));
+    }
+
+    // Draw every cell of a generation
+    public void render(int[][] gen) {
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                drawCell(i, j, gen[i][j]);
+            }
+        }
+    }
+
+    public void render(Grid gen) {
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                drawCell(i, j, gen.get(i, j));
+            }
+        }
+    }
+
+    // Draw one cell, the image is repainted by the caller
+    public void drawCell(int row, int col, int bacteria) {
+        int[] sprite = bacteria == 1 ? aliveSprite : deadSprite;
+        int start = row * pitch * image.getWidth() + col * pitch;
+        for (int y = 0; y < pitch; y++) {
+            System.arraycopy(sprite, y * pitch, pixels, start + y * image.getWidth(), pitch);
+        }
+    }
+
+    // Draw the cells that flipped and repaint only their bounding rectangle
+    public void drawChanges(int[][] gen, ChangeSet changes) {
+        drawChanges(new IntArrayGrid(gen), changes);
+    }
+
+    public void drawChanges(Grid gen, ChangeSet changes) {
+        if (changes.size() == 0) {
+            return;
+        }
+        int minRow = Integer.MAX_VALUE;
+        int minCol = Integer.MAX_VALUE;
+        int maxRow = -1;
+        int maxCol = -1;
+        for (int k = 0; k < changes.size(); k++) {
+            int row = changes.getRow(k);
+            int col = changes.getCol(k);
+            drawCell(row, col, gen.get(row, col));
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+        Insets insets = getInsets();
+        repaint(insets.left + minCol * pitch, insets.top + minRow * pitch,
+                (maxCol - minCol + 1) * pitch, (maxRow - minRow + 1) * pitch);
+    }
+
+    // Pixel colour, used by tests and screenshots
+    public int getPixel(int x, int y) {
+        return pixels[y * image.getWidth() + x];
+    }
+
+    public int getPitch() {
+        return pitch;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        Insets insets = getInsets();
+        g.drawImage(image, insets.left, insets.top, null);
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        Insets insets = getInsets();
+        return new Dimension(image.getWidth() + insets.left + insets.right,
+                image.getHeight() + insets.top + insets.bottom);
+    }
+
+    // Pixels of one cell: a circle with a gap while cells are big enough, a square otherwise
+    private int[] sprite(int color) {
+        int[] sprite = new int[pitch * pitch];
+        int diameter = pitch - GAP;
+        if (diameter < 4) {
+            Arrays.fill(sprite, color);
+            return sprite;
+        }
+        double radius = diameter / 2.0;
+        for (int y = 0; y < pitch; y++) {
+            for (int x = 0; x < pitch; x++) {
+                double dx = x + 0.5 - radius;
+                double dy = y + 0.5 - radius;
+                boolean inside = x < diameter && y < diameter && dx * dx + dy * dy <= radius * radius;
+                sprite[y * pitch + x] = inside ? color : BG_COLOR.getRGB();
+            }
+        }
+        return sprite;
+    }
+}
@@ -0,0 +1,158 @@
+package org.example;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Random initial generations, 64 cells per random long.
+// The density is read as a binary fraction 0.b1 b2 ... b16: starting from the lowest set bit, every bit
+// ORs (1) or ANDs (0) a new random word into the result, so each cell ends up alive with that probability
+// without comparing cells one by one. 0.5 needs one draw per 64 cells, any other density at most 16.
+// Rows are split in chunks of CHUNK_ROWS, each with its own SplittableRandom split from the seed in chunk order,
+// so a seed gives the same gen whatever the number of threads.
+public final class GenRandomizer {
+    // Bits of the density that are used, it's rounded to a multiple of 1 / 65536
+    static final int DENSITY_BITS = 16;
+    static final int CHUNK_ROWS = 64;
+
+    private GenRandomizer() {
+    }
+
+    // Board in the BitBoardEngine layout, chunks are filled on the common pool
+    public static long[] randomBoard(int rows, int cols, long seed, double density) {
+        return randomBoard(rows, cols, seed, density, 0);
+    }
+
+    // Same as above on a given number of threads, 0 means the common pool
+    public static long[] randomBoard(int rows, int cols, long seed, double density, int parallelism) {
+        long threshold = threshold(density);
+        int stride = BitBoardEngine.wordsPerRow(cols);
+        long lastMask = BitBoardEngine.lastWordMask(cols);
+        long[] board = new long[rows * stride];
+        fillChunks(rows, seed, parallelism, (rand, from, to) -> {
+            for (int i = from; i < to; i++) {
+                int base = i * stride;
+                for (int w = 0; w < stride; w++) {
+                    board[base + w] = nextWord(rand, threshold);
+                }
+                if (stride > 0) {
+                    board[base + stride - 1] &= lastMask;
+                }
+            }
+        });
+        return board;
+    }
+
+    // Same cells as randomBoard, as an int[][] generation
+    public static int[][] randomGen(int rows, int cols, long seed, double density) {
+        return randomGen(rows, cols, seed, density, 0);
+    }
+
+    public static int[][] randomGen(int rows, int cols, long seed, double density, int parallelism) {
+        long threshold = threshold(density);
+        int[][] gen = new int[rows][cols];
+        fillChunks(rows, seed, parallelism, (rand, from, to) -> {
+            for (int i = from; i < to; i++) {
+                int[] row = gen[i];
+                for (int start = 0; start < cols; start += 64) {
+                    long word = nextWord(rand, threshold);
+                    int end = Math.min(64, cols - start);
+                    for (int b = 0; b < end; b++) {
+                        row[start + b] = (int) (word >>> b) & 1;
+                    }
+                }
+            }
+        });
+        return gen;
+    }
+
+    // Same cells as randomBoard, in the default Grid backend
+    public static ByteGrid randomGrid(int rows, int cols, long seed, double density) {
+        return randomGrid(rows, cols, seed, density, 0);
+    }
+
+    public static ByteGrid randomGrid(int rows, int cols, long seed, double density, int parallelism) {
+        long threshold = threshold(density);
+        ByteGrid grid = new ByteGrid(rows, cols);
+        byte[] cells = grid.getCells();
+        fillChunks(rows, seed, parallelism, (rand, from, to) -> {
+            for (int i = from; i < to; i++) {
+                int base = i * cols;
+                for (int start = 0; start < cols; start += 64) {
+                    long word = nextWord(rand, threshold);
+                    int end = Math.min(64, cols - start);
+                    for (int b = 0; b < end; b++) {
+                        cells[base + start + b] = (byte) ((word >>> b) & 1);
+                    }
+                }
+            }
+        });
+        return grid;
+    }
+
+    // 64 cells, each alive with probability threshold / 2^DENSITY_BITS
+    static long nextWord(SplittableRandom rand, long threshold) {
+        if (threshold == 0) {
+            return 0;
+        }
+        if (threshold == 1L << DENSITY_BITS) {
+            return -1L;
+        }
+        long word = 0;
+        // Least significant bit first, the last one weighs 1/2
+        for (int k = Long.numberOfTrailingZeros(threshold); k < DENSITY_BITS; k++) {
+            long random = rand.nextLong();
+            word = ((threshold >>> k) & 1) != 0 ? word | random : word & random;
+        }
+        return word;
+    }
+
+    // Density as a fraction of 2^DENSITY_BITS
+    static long threshold(double density) {
+        if (!(density >= 0 && density <= 1)) {
+            throw new IllegalArgumentException("Density must be between 0 and 1: " + density);
+        }
+        return Math.round(density * (1L << DENSITY_BITS));
+    }
+
+    private interface ChunkFiller {
+        void fill(SplittableRandom rand, int fromRow, int toRow);
+    }
+
+    private static void fillChunks(int rows, long seed, int parallelism, ChunkFiller filler) {
+        SplittableRandom[] randoms = chunkRandoms(seed, rows);
+        int chunks = randoms.length;
+        IntStream work = IntStream.range(0, chunks);
+        if (chunks < 2 || parallelism == 1) {
+            work.forEach(c -> fillChunk(filler, randoms, rows, c));
+            return;
+        }
+        if (parallelism == 0) {
+            work.parallel().forEach(c -> fillChunk(filler, randoms, rows, c));
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> work.parallel().forEach(c -> fillChunk(filler, randoms, rows, c))).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Generator of every chunk of CHUNK_ROWS rows, split in order before any thread starts
+    // so chunk c always gets the same one
+    static SplittableRandom[] chunkRandoms(long seed, int rows) {
+        int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+        return randoms;
+    }
+
+    private static void fillChunk(ChunkFiller filler, SplittableRandom[] randoms, int rows, int chunk) {
+        int from = chunk * CHUNK_ROWS;
+        filler.fill(randoms[chunk], from, Math.min(rows, from + CHUNK_ROWS));
+    }
+}
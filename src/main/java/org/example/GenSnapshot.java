@@ -0,0 +1,39 @@
+package org.example;
+
+// Copy of one round, handed from the simulation thread to the EDT.
+// gen and changes are private copies, nobody writes to them while the reader holds the snapshot:
+// SimulationLoop reuses them for a later round only after the next poll().
+public record GenSnapshot(int round, Grid gen, ChangeSet changes, CycleStatus status, boolean finished,
+                          long population) {
+
+    // Population counted from the gen
+    public GenSnapshot(int round, int[][] gen, ChangeSet changes, CycleStatus status, boolean finished) {
+        this(round, new IntArrayGrid(gen), changes, status, finished, new IntArrayGrid(gen).population());
+    }
+
+    // Copy the logic's current state, called on the simulation thread right after a step.
+    // The copy keeps the logic's backend, a single array copy for a ByteGrid.
+    public static GenSnapshot of(BacteriaLifeLogic logic, boolean finished) {
+        return of(logic, finished, null);
+    }
+
+    // Same, copying into the buffers of a snapshot nobody reads any more when they fit
+    public static GenSnapshot of(BacteriaLifeLogic logic, boolean finished, GenSnapshot reuse) {
+        Grid current = logic.getCurrentGrid();
+        Grid gen;
+        ChangeSet changes;
+        if (reuse != null && reuse.gen().getClass() == current.getClass()
+                && reuse.gen().getRows() == current.getRows() && reuse.gen().getCols() == current.getCols()) {
+            gen = reuse.gen();
+            gen.copyFrom(current);
+            changes = reuse.changes();
+        } else {
+            gen = current.copy();
+            changes = new ChangeSet();
+        }
+        changes.clear(logic.getLastChanges().getColumns());
+        changes.addAll(logic.getLastChanges());
+        return new GenSnapshot(logic.getRound(), gen, changes, logic.getStatus(), finished,
+                logic.getPopulationStats().getPopulation());
+    }
+}
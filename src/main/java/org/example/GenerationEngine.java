@@ -0,0 +1,69 @@
+package org.example;
+
+import java.util.List;
+
+// Strategy used by BacteriaLifeLogic to compute the next generation
+public interface GenerationEngine {
+    // Writes the next generation of gen into newGen, gen is never modified.
+    // Returns how many cells changed, counted during the same pass, and adds them to changes unless it's null.
+    int step(int[][] gen, int[][] newGen, ChangeSet changes);
+
+    // Same as above without recording the changed cells
+    default int step(int[][] gen, int[][] newGen) {
+        return step(gen, newGen, null);
+    }
+
+    // Same on any Grid backend. int[][] grids are stepped in place, other backends go through
+    // int[][] copies unless the engine overrides this for them. Every engine here steps a ByteGrid
+    // natively, the copies are only left for mixed or other backends.
+    default int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof IntArrayGrid in && newGen instanceof IntArrayGrid out) {
+            return step(in.getArray(), out.getArray(), changes);
+        }
+        int[][] next = new int[newGen.getRows()][newGen.getCols()];
+        int changed = step(gen.toArray(), next, changes);
+        newGen.copyFrom(new IntArrayGrid(next));
+        return changed;
+    }
+
+    // Short name, used to pick and report the engine
+    String getName();
+
+    // Names forName() knows, "lut" and "halo" also take a rule or a topology after a colon
+    static List<String> names() {
+        return List.of("array", "bitboard", "parallel", "active", "vector", "lut", "halo", "incremental");
+    }
+
+    // Throws IllegalArgumentException unless forName() would build an engine, without building it
+    static void checkName(String name) {
+        if (name.startsWith("lut:")) {
+            Rule.parse(name.substring(4));
+        } else if (name.startsWith("halo:")) {
+            Topology.parse(name.substring(5));
+        } else if (!names().contains(name)) {
+            throw new IllegalArgumentException("Unknown engine: " + name);
+        }
+    }
+
+    // Engine with default settings by its name, "lut:B36/S23" picks the rule of the table engine
+    // and "halo:torus" the topology of the halo engine
+    static GenerationEngine forName(String name) {
+        if (name.startsWith("lut:")) {
+            return new LutEngine(Rule.parse(name.substring(4)));
+        }
+        if (name.startsWith("halo:")) {
+            return new HaloEngine(Topology.parse(name.substring(5)));
+        }
+        return switch (name) {
+            case "array" -> new ArrayEngine();
+            case "bitboard" -> new BitBoardEngine();
+            case "parallel" -> new ParallelEngine();
+            case "active" -> new ActiveRegionEngine();
+            case "vector" -> new VectorEngine();
+            case "lut" -> new LutEngine();
+            case "halo" -> new HaloEngine();
+            case "incremental" -> new IncrementalEngine();
+            default -> throw new IllegalArgumentException("Unknown engine: " + name);
+        };
+    }
+}
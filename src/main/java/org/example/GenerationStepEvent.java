@@ -0,0 +1,14 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// JFR event around one engine step, from step() or generateNewGen()
+@Name("org.example.GenerationStep")
+@Label("Generation Step")
+@Category("BacteriaLife")
+@Description("Computes the next generation")
+public final class GenerationStepEvent extends SimulationEvent {
+}
@@ -0,0 +1,89 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Cells of one generation, 1 alive and 0 dead. ByteGrid (one byte per cell in one array) is the default,
+// IntArrayGrid wraps the int[][] the rest of the API still takes.
+public interface Grid {
+    int getRows();
+
+    int getCols();
+
+    int get(int row, int col);
+
+    void set(int row, int col, int bacteria);
+
+    // Copies a row into cells, which holds at least getCols() bytes
+    void readRow(int row, byte[] cells);
+
+    // Overwrites a row with the first getCols() bytes of cells
+    void writeRow(int row, byte[] cells);
+
+    // Same cells, same backend, nothing shared
+    Grid copy();
+
+    // Same size and backend, every cell dead
+    Grid emptyCopy();
+
+    // Empty grid with the default backend
+    static Grid of(int rows, int cols) {
+        return new ByteGrid(rows, cols);
+    }
+
+    // View of an int[][] gen, the array is shared
+    static Grid wrap(int[][] gen) {
+        return new IntArrayGrid(gen);
+    }
+
+    // Overwrites every cell with the ones of another grid of the same size
+    default void copyFrom(Grid other) {
+        byte[] row = new byte[getCols()];
+        for (int i = 0; i < getRows(); i++) {
+            other.readRow(i, row);
+            writeRow(i, row);
+        }
+    }
+
+    // New int[][] copy of the cells
+    default int[][] toArray() {
+        int[][] gen = new int[getRows()][getCols()];
+        byte[] row = new byte[getCols()];
+        for (int i = 0; i < getRows(); i++) {
+            readRow(i, row);
+            for (int j = 0; j < row.length; j++) {
+                gen[i][j] = row[j];
+            }
+        }
+        return gen;
+    }
+
+    // Live cells
+    default long population() {
+        byte[] row = new byte[getCols()];
+        long population = 0;
+        for (int i = 0; i < getRows(); i++) {
+            readRow(i, row);
+            for (byte bacteria : row) {
+                population += bacteria;
+            }
+        }
+        return population;
+    }
+
+    // True if both grids have the same size and cells, whatever their backend
+    default boolean sameCells(Grid other) {
+        if (getRows() != other.getRows() || getCols() != other.getCols()) {
+            return false;
+        }
+        byte[] mine = new byte[getCols()];
+        byte[] theirs = new byte[getCols()];
+        for (int i = 0; i < getRows(); i++) {
+            readRow(i, mine);
+            other.readRow(i, theirs);
+            if (!Arrays.equals(mine, theirs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,108 @@
+package org.example;
+
+// Engine on a flat byte grid with a one-cell halo that the Topology fills once per generation.
+// Every cell then has eight neighbours in the array, so the inner loop is eight loads and an add,
+// with no bounds checks and no rule branches. Not thread safe, the grid is reused between calls.
+public class HaloEngine implements GenerationEngine {
+    private final Topology topology;
+    private byte[] grid = new byte[0];
+    private byte[] rowBuffer = new byte[0];
+
+    // Dead border, same results as ArrayEngine
+    public HaloEngine() {
+        this(Topology.DEAD);
+    }
+
+    public HaloEngine(Topology topology) {
+        this.topology = topology;
+    }
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        int cols = rows == 0 ? 0 : gen[0].length;
+        int width = cols + 2;
+        resize(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            int[] row = gen[i];
+            int base = (i + 1) * width + 1;
+            for (int j = 0; j < cols; j++) {
+                grid[base + j] = (byte) row[j];
+            }
+        }
+        topology.fillHalo(grid, rows, cols);
+
+        if (rowBuffer.length != cols) {
+            rowBuffer = new byte[cols];
+        }
+        int changed = 0;
+        for (int i = 0; i < rows; i++) {
+            changed += stepRow(i, cols, rowBuffer, 0, changes);
+            int[] newRow = newGen[i];
+            for (int j = 0; j < cols; j++) {
+                newRow[j] = rowBuffer[j];
+            }
+        }
+        return changed;
+    }
+
+    // A ByteGrid is copied in and written out row by row, no per-cell conversion
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (!(gen instanceof ByteGrid in && newGen instanceof ByteGrid out)) {
+            return GenerationEngine.super.step(gen, newGen, changes);
+        }
+        int rows = in.getRows();
+        int cols = in.getCols();
+        resize(rows, cols);
+        byte[] cells = in.getCells();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(cells, i * cols, grid, (i + 1) * (cols + 2) + 1, cols);
+        }
+        topology.fillHalo(grid, rows, cols);
+
+        byte[] next = out.getCells();
+        int changed = 0;
+        for (int i = 0; i < rows; i++) {
+            changed += stepRow(i, cols, next, i * cols, changes);
+        }
+        return changed;
+    }
+
+    private void resize(int rows, int cols) {
+        int size = (rows + 2) * (cols + 2);
+        if (grid.length != size) {
+            grid = new byte[size];
+        }
+    }
+
+    // Writes row i of the next gen into out from offset, returns how many of its cells flipped
+    private int stepRow(int i, int cols, byte[] out, int offset, ChangeSet changes) {
+        int width = cols + 2;
+        int changed = 0;
+        int c = (i + 1) * width + 1;
+        for (int j = 0; j < cols; j++, c++) {
+            int neighbours = grid[c - width - 1] + grid[c - width] + grid[c - width + 1]
+                    + grid[c - 1] + grid[c + 1]
+                    + grid[c + width - 1] + grid[c + width] + grid[c + width + 1];
+            int bacteria = grid[c];
+            // Alive with 3 neighbours, or 2 and already alive: both give 3 once the cell is or-ed in
+            int next = (neighbours | bacteria) == 3 ? 1 : 0;
+            out[offset + j] = (byte) next;
+            if (next != bacteria) {
+                changed++;
+                if (changes != null) changes.add(i, j);
+            }
+        }
+        return changed;
+    }
+
+    public Topology getTopology() {
+        return topology;
+    }
+
+    @Override
+    public String getName() {
+        return "halo:" + topology;
+    }
+}
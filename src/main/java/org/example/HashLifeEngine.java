@@ -0,0 +1,392 @@
+package org.example;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// HashLife engine: the plane is a quadtree of hash-consed nodes and every node memoises its result,
+// so repeated patterns in space and time are only computed once and 2^k rounds are one call.
+// Same rules as BacteriaLifeLogic, but the plane has no edges: results only match the int[][] path
+// while the colony doesn't reach the border of the fixed grid.
+// The node cache is collected whenever it's full, in the middle of advance() too: the live tree, the nodes
+// the calls in progress hold and, while there's room, their memoised results are kept. Collections only
+// run where every node still in use is pinned (successor() starting on a node, or advance() between two
+// expansions), so the nodes in use are always the ones in the table.
+// Not thread safe.
+public class HashLifeEngine {
+    private static final int DEFAULT_MAX_NODES = 1 << 20;
+    private static final int MAX_STEP_LOG = 60;
+
+    private final int maxNodes;
+    private final Map<Node, Node> nodes = new HashMap<>();
+    private final List<Node> emptyNodes = new ArrayList<>();
+    // Nodes the successor() calls in progress hold, outermost first, kept by collections
+    private final List<Node> pinned = new ArrayList<>();
+    private final Node dead = new Node(0);
+    private final Node alive = new Node(1);
+    private Node root;
+    // Position of the root's top-left cell in grid coordinates
+    private long originRow;
+    private long originCol;
+    private long generation;
+    // log2 of the rounds every memoised result advances, -1 when nothing is memoised
+    private int memoStepLog = -1;
+    private long evictedNodes;
+    // Cache size that triggers the next collection, above maxNodes only when the kept nodes need it
+    private int collectAt;
+    private int peakNodes;
+
+    public HashLifeEngine() {
+        this(DEFAULT_MAX_NODES);
+    }
+
+    // maxNodes bounds the node cache. It only holds more when the live tree and the nodes in use
+    // alone need more, then up to twice what the last collection kept.
+    public HashLifeEngine(int maxNodes) {
+        if (maxNodes < 1) {
+            throw new IllegalArgumentException("Node cache must hold at least one node: " + maxNodes);
+        }
+        this.maxNodes = maxNodes;
+        this.collectAt = maxNodes;
+        this.root = empty(3);
+    }
+
+    // Load a gen, its top-left cell becomes (0, 0) and the round counter starts again
+    public void loadGen(int[][] gen) {
+        nodes.clear();
+        emptyNodes.clear();
+        collectAt = maxNodes;
+        memoStepLog = -1;
+        generation = 0;
+        originRow = 0;
+        originCol = 0;
+        int size = Math.max(gen.length, gen.length == 0 ? 0 : gen[0].length);
+        int level = 3;
+        while ((1L << level) < size) {
+            level++;
+        }
+        root = build(gen, 0, 0, level);
+    }
+
+    // Advance 2^stepLog rounds in one call
+    public void advance(int stepLog) {
+        if (stepLog < 0 || stepLog > MAX_STEP_LOG) {
+            throw new IllegalArgumentException("Step must be between 2^0 and 2^" + MAX_STEP_LOG + ": 2^" + stepLog);
+        }
+        if (stepLog != memoStepLog) {
+            // Memoised results are only valid for one step size, nodes that aren't reachable
+            // any more could still carry one so they go too
+            collect(false);
+            memoStepLog = stepLog;
+        }
+        // Cells move at most one cell per round, so keep a margin of 2^stepLog around the colony
+        while (root.level < stepLog + 3 || !fitsInCentre(root)) {
+            collectIfFull();
+            expand();
+        }
+        long shift = 1L << (root.level - 2);
+        root = successor(root);
+        originRow += shift;
+        originCol += shift;
+        generation += 1L << stepLog;
+    }
+
+    // Advance a single round
+    public void step() {
+        advance(0);
+    }
+
+    // State of one cell, 1 alive and 0 dead
+    public int getCell(long row, long col) {
+        long r = row - originRow;
+        long c = col - originCol;
+        long size = 1L << root.level;
+        if (r < 0 || c < 0 || r >= size || c >= size) {
+            return 0;
+        }
+        Node node = root;
+        while (node.level > 0) {
+            long half = 1L << (node.level - 1);
+            boolean south = r >= half;
+            boolean east = c >= half;
+            node = south ? (east ? node.se : node.sw) : (east ? node.ne : node.nw);
+            if (south) r -= half;
+            if (east) c -= half;
+        }
+        return (int) node.population;
+    }
+
+    // Copy a window of the plane into an int[][]
+    public int[][] toArray(long top, long left, int rows, int cols) {
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = getCell(top + i, left + j);
+            }
+        }
+        return gen;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public long getPopulation() {
+        return root.population;
+    }
+
+    // Nodes currently in the cache
+    public int getNodeCount() {
+        return nodes.size();
+    }
+
+    // Nodes dropped by cache collections so far
+    public long getEvictedNodes() {
+        return evictedNodes;
+    }
+
+    // Most nodes the cache held at once, during advance() included
+    public int getPeakNodeCount() {
+        return peakNodes;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    // Quadtree node, level 0 is a single cell and level n covers 2^n x 2^n cells
+    private static final class Node {
+        final Node nw;
+        final Node ne;
+        final Node sw;
+        final Node se;
+        final int level;
+        final long population;
+        final int hash;
+        // Centre half of the node after the memoised number of rounds
+        Node result;
+
+        // Leaf
+        Node(int alive) {
+            this.nw = null;
+            this.ne = null;
+            this.sw = null;
+            this.se = null;
+            this.level = 0;
+            this.population = alive;
+            this.hash = alive;
+        }
+
+        Node(Node nw, Node ne, Node sw, Node se) {
+            this.nw = nw;
+            this.ne = ne;
+            this.sw = sw;
+            this.se = se;
+            this.level = nw.level + 1;
+            this.population = nw.population + ne.population + sw.population + se.population;
+            int h = System.identityHashCode(nw);
+            h = h * 31 + System.identityHashCode(ne);
+            h = h * 31 + System.identityHashCode(sw);
+            h = h * 31 + System.identityHashCode(se);
+            this.hash = h;
+        }
+
+        // Children are already canonical, so identity is enough
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Node other)) return false;
+            return nw == other.nw && ne == other.ne && sw == other.sw && se == other.se;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Canonical node with these children
+    private Node join(Node nw, Node ne, Node sw, Node se) {
+        Node key = new Node(nw, ne, sw, se);
+        Node existing = nodes.putIfAbsent(key, key);
+        if (existing != null) {
+            return existing;
+        }
+        peakNodes = Math.max(peakNodes, nodes.size());
+        return key;
+    }
+
+    // Canonical empty node of a level
+    private Node empty(int level) {
+        while (emptyNodes.size() <= level) {
+            int size = emptyNodes.size();
+            if (size == 0) {
+                emptyNodes.add(dead);
+            } else {
+                Node e = emptyNodes.get(size - 1);
+                emptyNodes.add(join(e, e, e, e));
+            }
+        }
+        return emptyNodes.get(level);
+    }
+
+    // Build the node covering 2^level cells from (row, col), cells outside the gen are dead
+    private Node build(int[][] gen, int row, int col, int level) {
+        int cols = gen.length == 0 ? 0 : gen[0].length;
+        if (row >= gen.length || col >= cols) {
+            return empty(level);
+        }
+        if (level == 0) {
+            return gen[row][col] == 1 ? alive : dead;
+        }
+        int half = 1 << (level - 1);
+        return join(build(gen, row, col, level - 1), build(gen, row, col + half, level - 1),
+                build(gen, row + half, col, level - 1), build(gen, row + half, col + half, level - 1));
+    }
+
+    // Double the root, keeping it in the centre
+    private void expand() {
+        Node e = empty(root.level - 1);
+        long shift = 1L << (root.level - 1);
+        root = join(join(e, e, e, root.nw), join(e, e, root.ne, e),
+                join(e, root.sw, e, e), join(root.se, e, e, e));
+        originRow -= shift;
+        originCol -= shift;
+    }
+
+    // True when all live cells are in the centre quarter of the node
+    private boolean fitsInCentre(Node node) {
+        Node centre = join(node.nw.se.se, node.ne.sw.sw, node.sw.ne.ne, node.se.nw.nw);
+        return centre.population == node.population;
+    }
+
+    // Centre half of a node, without advancing
+    private Node centre(Node node) {
+        return join(node.nw.se, node.ne.sw, node.sw.ne, node.se.nw);
+    }
+
+    // Centre half of a node after min(2^memoStepLog, 2^(level - 2)) rounds
+    private Node successor(Node node) {
+        if (node.result != null) {
+            return node.result;
+        }
+        // The caller pinned node, its callers everything they hold
+        collectIfFull();
+        int mark = pinned.size();
+        pinned.add(node);
+        Node result;
+        if (node.population == 0) {
+            result = empty(node.level - 1);
+        } else if (node.level == 2) {
+            result = baseCase(node);
+        } else {
+            // The nine overlapping sub-squares, one level down
+            Node n00 = node.nw;
+            Node n01 = pin(join(node.nw.ne, node.ne.nw, node.nw.se, node.ne.sw));
+            Node n02 = node.ne;
+            Node n10 = pin(join(node.nw.sw, node.nw.se, node.sw.nw, node.sw.ne));
+            Node n11 = pin(centre(node));
+            Node n12 = pin(join(node.ne.sw, node.ne.se, node.se.nw, node.se.ne));
+            Node n20 = node.sw;
+            Node n21 = pin(join(node.sw.ne, node.se.nw, node.sw.se, node.se.sw));
+            Node n22 = node.se;
+
+            // At full speed both halves advance, otherwise only the second one does
+            boolean fullSpeed = node.level - 2 <= memoStepLog;
+            Node r00 = pin(fullSpeed ? successor(n00) : centre(n00));
+            Node r01 = pin(fullSpeed ? successor(n01) : centre(n01));
+            Node r02 = pin(fullSpeed ? successor(n02) : centre(n02));
+            Node r10 = pin(fullSpeed ? successor(n10) : centre(n10));
+            Node r11 = pin(fullSpeed ? successor(n11) : centre(n11));
+            Node r12 = pin(fullSpeed ? successor(n12) : centre(n12));
+            Node r20 = pin(fullSpeed ? successor(n20) : centre(n20));
+            Node r21 = pin(fullSpeed ? successor(n21) : centre(n21));
+            Node r22 = pin(fullSpeed ? successor(n22) : centre(n22));
+
+            Node nw = pin(successor(pin(join(r00, r01, r10, r11))));
+            Node ne = pin(successor(pin(join(r01, r02, r11, r12))));
+            Node sw = pin(successor(pin(join(r10, r11, r20, r21))));
+            Node se = pin(successor(pin(join(r11, r12, r21, r22))));
+            result = join(nw, ne, sw, se);
+        }
+        node.result = result;
+        pinned.subList(mark, pinned.size()).clear();
+        return result;
+    }
+
+    private Node pin(Node node) {
+        pinned.add(node);
+        return node;
+    }
+
+    // Centre 2x2 of a 4x4 node after one round
+    private Node baseCase(Node node) {
+        int[][] cells = new int[4][4];
+        Node[] quadrants = {node.nw, node.ne, node.sw, node.se};
+        for (int q = 0; q < 4; q++) {
+            int row = (q >> 1) * 2;
+            int col = (q & 1) * 2;
+            cells[row][col] = (int) quadrants[q].nw.population;
+            cells[row][col + 1] = (int) quadrants[q].ne.population;
+            cells[row + 1][col] = (int) quadrants[q].sw.population;
+            cells[row + 1][col + 1] = (int) quadrants[q].se.population;
+        }
+        return join(nextCell(cells, 1, 1), nextCell(cells, 1, 2), nextCell(cells, 2, 1), nextCell(cells, 2, 2));
+    }
+
+    // Same rules as ArrayEngine
+    private Node nextCell(int[][] cells, int row, int col) {
+        int neighbours = BacteriaLifeLogic.checkNeighbours(cells, row, col);
+        return ArrayEngine.nextState(cells[row][col], neighbours) == 1 ? alive : dead;
+    }
+
+    // Collects unless the cache has room for the joins until the next check: a few per call in progress
+    private void collectIfFull() {
+        if (nodes.size() + 16 + root.level >= collectAt) {
+            collect(true);
+        }
+    }
+
+    // Drop every node that isn't reachable from the root, the empty nodes or the pinned nodes.
+    // Memoised results are kept too if asked, unless that fills more than half the cache.
+    private void collect(boolean results) {
+        int before = nodes.size();
+        keepLive(results);
+        if (results && nodes.size() > maxNodes / 2) {
+            keepLive(false);
+        }
+        evictedNodes += Math.max(0, before - nodes.size());
+        collectAt = Math.max(maxNodes, 2 * nodes.size() + 16 + root.level);
+    }
+
+    // Re-inserts the nodes to keep into the cleared cache, the same instances so they stay canonical.
+    // Nodes are visited by identity, so an equal copy still gets its result cleared.
+    private void keepLive(boolean results) {
+        nodes.clear();
+        Set<Node> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        ArrayDeque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        pending.addAll(emptyNodes);
+        pending.addAll(pinned);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            if (node.level == 0 || !visited.add(node)) {
+                continue;
+            }
+            nodes.putIfAbsent(node, node);
+            pending.push(node.nw);
+            pending.push(node.ne);
+            pending.push(node.sw);
+            pending.push(node.se);
+            if (!results) {
+                node.result = null;
+            } else if (node.result != null) {
+                pending.push(node.result);
+            }
+        }
+    }
+}
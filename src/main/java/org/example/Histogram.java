@@ -0,0 +1,73 @@
+package org.example;
+
+// Fixed-width bins over [min, max), values outside go to the first or last bin.
+// Histograms with the same bins can be merged.
+public class Histogram {
+    private final double min;
+    private final double max;
+    private final long[] counts;
+    private long total;
+
+    public Histogram(double min, double max, int bins) {
+        if (bins < 1 || !(max > min)) {
+            throw new IllegalArgumentException("Invalid histogram: [" + min + ", " + max + ") in " + bins + " bins");
+        }
+        this.min = min;
+        this.max = max;
+        this.counts = new long[bins];
+    }
+
+    public void add(double value) {
+        counts[binOf(value)]++;
+        total++;
+    }
+
+    // Fold another histogram with the same bins into this one
+    public void merge(Histogram other) {
+        if (other.min != min || other.max != max || other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Histograms have different bins");
+        }
+        for (int b = 0; b < counts.length; b++) {
+            counts[b] += other.counts[b];
+        }
+        total += other.total;
+    }
+
+    public int binOf(double value) {
+        int bin = (int) ((value - min) / (max - min) * counts.length);
+        return Math.max(0, Math.min(counts.length - 1, bin));
+    }
+
+    public long getCount(int bin) {
+        return counts[bin];
+    }
+
+    public int getBins() {
+        return counts.length;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    // Lower edge of a bin
+    public double getBinStart(int bin) {
+        return min + (max - min) * bin / counts.length;
+    }
+
+    // Lower edge of the bin where the q quantile falls, NaN while empty
+    public double quantile(double q) {
+        if (total == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= Math.max(1, rank)) {
+                return getBinStart(b);
+            }
+        }
+        return getBinStart(counts.length - 1);
+    }
+}
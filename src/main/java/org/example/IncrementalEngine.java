@@ -0,0 +1,196 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Engine that keeps every cell's neighbour count and only looks at cells whose count or state just changed.
+// A flip adds or removes one to its 8 neighbours' counts and queues them with the cell itself, the next step
+// evaluates only the queued cells, so a step costs O(changes) instead of O(cells). Cells, counts and queue marks
+// are bytes on a grid with a one-cell border, the border is counted but never evaluated.
+// It remembers the last call like ActiveRegionEngine: gen must be the newGen of the previous step, anything
+// else rebuilds the counts with a full pass. Call reset() after editing a gen by hand. Not thread safe.
+public class IncrementalEngine implements GenerationEngine {
+    private int rows = -1;
+    private int cols = -1;
+    private int width;
+    private int[] offsets;
+    private byte[] cells = new byte[0];
+    private byte[] counts = new byte[0];
+    // 1 while a cell is queued, always 1 on the border so it's never queued
+    private byte[] queued = new byte[0];
+    // Cells to evaluate in the next step, padded indexes
+    private int[] candidates = new int[0];
+    private int candidateCount;
+    private int[] nextCandidates = new int[0];
+    // Cells flipped by the last step and the one before, padded indexes
+    private int[] flips = new int[0];
+    private int flipCount;
+    private int[] previousFlips = new int[0];
+    private int previousFlipCount;
+    private int lastEvaluated;
+    private Object lastGen;
+    private Object lastNewGen;
+    private byte[] rowBuffer = new byte[0];
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int genRows = gen.length;
+        return stepGrid(gen, newGen, genRows, genRows == 0 ? 0 : gen[0].length,
+                new IntArrayGrid(gen), new IntArrayGrid(newGen), changes);
+    }
+
+    // Stepped natively, the grids themselves are remembered instead of the arrays
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof IntArrayGrid in && newGen instanceof IntArrayGrid out) {
+            return step(in.getArray(), out.getArray(), changes);
+        }
+        return stepGrid(gen, newGen, gen.getRows(), gen.getCols(), gen, newGen, changes);
+    }
+
+    // genKey and newGenKey identify the buffers between calls
+    private int stepGrid(Object genKey, Object newGenKey, int genRows, int genCols, Grid gen, Grid newGen,
+                         ChangeSet changes) {
+        boolean continuing = genKey == lastNewGen && genRows == rows && genCols == cols;
+        // With ping-pong buffers newGen still has the gen before, only the last two rounds of flips differ
+        boolean newGenIsPrevious = continuing && newGenKey == lastGen;
+        if (!continuing) {
+            load(gen, genRows, genCols);
+        }
+
+        int[] swap = previousFlips;
+        previousFlips = flips;
+        previousFlipCount = flipCount;
+        flips = swap;
+        evaluate();
+        apply(changes);
+
+        if (newGenIsPrevious) {
+            for (int k = 0; k < previousFlipCount; k++) {
+                writeCell(newGen, previousFlips[k]);
+            }
+            for (int k = 0; k < flipCount; k++) {
+                writeCell(newGen, flips[k]);
+            }
+        } else {
+            for (int i = 0; i < rows; i++) {
+                System.arraycopy(cells, (i + 1) * width + 1, rowBuffer, 0, cols);
+                newGen.writeRow(i, rowBuffer);
+            }
+        }
+        lastGen = genKey;
+        lastNewGen = newGenKey;
+        return flipCount;
+    }
+
+    @Override
+    public String getName() {
+        return "incremental";
+    }
+
+    // Forget the last step, the next one rebuilds the counts
+    public void reset() {
+        lastGen = null;
+        lastNewGen = null;
+    }
+
+    // Cells evaluated in the last step
+    public int getLastEvaluated() {
+        return lastEvaluated;
+    }
+
+    // Cells queued for the next step
+    public int getPendingCells() {
+        return candidateCount;
+    }
+
+    // Copies gen in, counts every neighbourhood and queues every cell
+    private void load(Grid gen, int genRows, int genCols) {
+        if (genRows != rows || genCols != cols) {
+            rows = genRows;
+            cols = genCols;
+            width = cols + 2;
+            int size = (rows + 2) * width;
+            cells = new byte[size];
+            counts = new byte[size];
+            queued = new byte[size];
+            rowBuffer = new byte[cols];
+            offsets = new int[]{-width - 1, -width, -width + 1, -1, 1, width - 1, width, width + 1};
+            candidates = new int[Math.min(rows * cols, 1024)];
+            nextCandidates = new int[candidates.length];
+            flips = new int[candidates.length];
+            previousFlips = new int[candidates.length];
+        }
+        // The border stays marked, every inside cell is queued below
+        Arrays.fill(queued, (byte) 1);
+        for (int i = 0; i < rows; i++) {
+            gen.readRow(i, rowBuffer);
+            System.arraycopy(rowBuffer, 0, cells, (i + 1) * width + 1, cols);
+        }
+        candidateCount = 0;
+        flipCount = 0;
+        for (int i = 1; i <= rows; i++) {
+            for (int c = i * width + 1; c <= i * width + cols; c++) {
+                counts[c] = (byte) (cells[c - width - 1] + cells[c - width] + cells[c - width + 1]
+                        + cells[c - 1] + cells[c + 1]
+                        + cells[c + width - 1] + cells[c + width] + cells[c + width + 1]);
+                candidates = ensure(candidates, candidateCount);
+                candidates[candidateCount++] = c;
+            }
+        }
+    }
+
+    // Finds the queued cells that flip, against the counts of the current gen
+    private void evaluate() {
+        flipCount = 0;
+        for (int k = 0; k < candidateCount; k++) {
+            int c = candidates[k];
+            queued[c] = 0;
+            int bacteria = cells[c];
+            // Same branch-free rule as HaloEngine
+            int next = (counts[c] | bacteria) == 3 ? 1 : 0;
+            if (next != bacteria) {
+                flips = ensure(flips, flipCount);
+                flips[flipCount++] = c;
+            }
+        }
+        lastEvaluated = candidateCount;
+    }
+
+    // Flips the cells, moves their neighbours' counts and queues the neighbourhoods for the next step
+    private void apply(ChangeSet changes) {
+        int count = 0;
+        for (int k = 0; k < flipCount; k++) {
+            int c = flips[k];
+            int delta = cells[c] == 0 ? 1 : -1;
+            cells[c] ^= 1;
+            if (queued[c] == 0) {
+                queued[c] = 1;
+                nextCandidates = ensure(nextCandidates, count);
+                nextCandidates[count++] = c;
+            }
+            for (int offset : offsets) {
+                int n = c + offset;
+                counts[n] += (byte) delta;
+                if (queued[n] == 0) {
+                    queued[n] = 1;
+                    nextCandidates = ensure(nextCandidates, count);
+                    nextCandidates[count++] = n;
+                }
+            }
+            if (changes != null) changes.add(c / width - 1, c % width - 1);
+        }
+        int[] swap = candidates;
+        candidates = nextCandidates;
+        nextCandidates = swap;
+        candidateCount = count;
+    }
+
+    private void writeCell(Grid gen, int c) {
+        gen.set(c / width - 1, c % width - 1, cells[c]);
+    }
+
+    // Room for one more entry after size
+    private static int[] ensure(int[] list, int size) {
+        return size < list.length ? list : Arrays.copyOf(list, Math.max(16, list.length * 2));
+    }
+}
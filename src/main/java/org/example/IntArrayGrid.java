@@ -0,0 +1,76 @@
+package org.example;
+
+// Grid view of an int[][] gen, for the code that still works on arrays. The array is shared, not copied.
+public final class IntArrayGrid implements Grid {
+    private final int[][] gen;
+
+    public IntArrayGrid(int[][] gen) {
+        this.gen = gen;
+    }
+
+    @Override
+    public int getRows() {
+        return gen.length;
+    }
+
+    @Override
+    public int getCols() {
+        return gen.length == 0 ? 0 : gen[0].length;
+    }
+
+    @Override
+    public int get(int row, int col) {
+        return gen[row][col];
+    }
+
+    @Override
+    public void set(int row, int col, int bacteria) {
+        gen[row][col] = bacteria;
+    }
+
+    @Override
+    public void readRow(int row, byte[] cells) {
+        int[] source = gen[row];
+        for (int j = 0; j < source.length; j++) {
+            cells[j] = (byte) source[j];
+        }
+    }
+
+    @Override
+    public void writeRow(int row, byte[] cells) {
+        int[] target = gen[row];
+        for (int j = 0; j < target.length; j++) {
+            target[j] = cells[j];
+        }
+    }
+
+    @Override
+    public void copyFrom(Grid other) {
+        if (other instanceof IntArrayGrid grid) {
+            for (int i = 0; i < gen.length; i++) {
+                System.arraycopy(grid.gen[i], 0, gen[i], 0, gen[i].length);
+            }
+        } else {
+            Grid.super.copyFrom(other);
+        }
+    }
+
+    @Override
+    public IntArrayGrid copy() {
+        int[][] copy = new int[gen.length][];
+        for (int i = 0; i < gen.length; i++) {
+            copy[i] = gen[i].clone();
+        }
+        return new IntArrayGrid(copy);
+    }
+
+    @Override
+    public IntArrayGrid emptyCopy() {
+        return new IntArrayGrid(new int[getRows()][getCols()]);
+    }
+
+    // The wrapped array
+    public int[][] getArray() {
+        return gen;
+    }
+}
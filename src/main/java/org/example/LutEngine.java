@@ -0,0 +1,107 @@
+package org.example;
+
+// Engine driven by a Rule compiled to a lookup table. Each row is walked with a sliding window:
+// every column adds 3 bits (above, cell, below) and the last three columns are the 9-bit table index,
+// so a cell costs one shift, one or and one load instead of a neighbour walk and the rule chain.
+public class LutEngine implements GenerationEngine {
+    private final Rule rule;
+    private final byte[] table;
+    // Dead row used above the first row and below the last one
+    private int[] deadRow = new int[0];
+    private byte[] deadCells = new byte[0];
+
+    // Same rules as ArrayEngine
+    public LutEngine() {
+        this(Rule.CONWAY);
+    }
+
+    public LutEngine(Rule rule) {
+        this.rule = rule;
+        this.table = rule.compile();
+    }
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        int cols = rows == 0 ? 0 : gen[0].length;
+        if (deadRow.length != cols) {
+            deadRow = new int[cols];
+        }
+        int changed = 0;
+        for (int i = 0; i < rows; i++) {
+            int[] above = i > 0 ? gen[i - 1] : deadRow;
+            int[] row = gen[i];
+            int[] below = i < rows - 1 ? gen[i + 1] : deadRow;
+            int[] newRow = newGen[i];
+
+            // Column -1 is dead, column 0 enters the window
+            int index = column(above, row, below, 0);
+            for (int j = 0; j < cols; j++) {
+                int right = j + 1 < cols ? column(above, row, below, j + 1) : 0;
+                index = ((index << 3) | right) & 0x1FF;
+                int next = table[index];
+                newRow[j] = next;
+                if (next != row[j]) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Same window on the flat cells of a ByteGrid, other backends go through int[][] copies
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (!(gen instanceof ByteGrid in && newGen instanceof ByteGrid out)) {
+            return GenerationEngine.super.step(gen, newGen, changes);
+        }
+        int rows = in.getRows();
+        int cols = in.getCols();
+        if (deadCells.length != cols) {
+            deadCells = new byte[cols];
+        }
+        byte[] cells = in.getCells();
+        byte[] next = out.getCells();
+        int changed = 0;
+        for (int i = 0; i < rows; i++) {
+            byte[] above = i > 0 ? cells : deadCells;
+            int up = i > 0 ? (i - 1) * cols : 0;
+            byte[] below = i < rows - 1 ? cells : deadCells;
+            int down = i < rows - 1 ? (i + 1) * cols : 0;
+            int base = i * cols;
+
+            int index = cols > 0 ? column(above, up, cells, base, below, down) : 0;
+            for (int j = 0; j < cols; j++) {
+                int right = j + 1 < cols ? column(above, up + j + 1, cells, base + j + 1, below, down + j + 1) : 0;
+                index = ((index << 3) | right) & 0x1FF;
+                byte state = table[index];
+                next[base + j] = state;
+                if (state != cells[base + j]) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // 3 bits of one column: above, cell, below
+    private static int column(int[] above, int[] row, int[] below, int j) {
+        return (above[j] << 2) | (row[j] << 1) | below[j];
+    }
+
+    // Same with an offset into each array
+    private static int column(byte[] above, int up, byte[] row, int at, byte[] below, int down) {
+        return (above[up] << 2) | (row[at] << 1) | below[down];
+    }
+
+    public Rule getRule() {
+        return rule;
+    }
+
+    @Override
+    public String getName() {
+        return "lut:" + rule;
+    }
+}
@@ -4,13 +4,16 @@ import javax.swing.*;
 
 public class Main {
     public static void main(String[] args) {
-        // Variables
-        int dimension = 30;
+        // Variables, the grid size can be passed as the first argument
+        int dimension = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        RenderMode renderMode = RenderMode.forDimension(dimension);
 
         // Create logic
         BacteriaLifeLogic logic = new BacteriaLifeLogic(dimension);
+        // Step and frame metrics, visible in JConsole or any JMX client
+        logic.setMetrics(SimulationMetrics.register("main"));
 
         // Create UI
-        SwingUtilities.invokeLater(() -> new BacteriaLifeUI(logic));
+        SwingUtilities.invokeLater(() -> new BacteriaLifeUI(logic, renderMode));
     }
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+// Grid stored outside the heap in a memory-mapped file, for grids too big for int[][] or even long[].
+// Two bit-packed boards in the BitBoardEngine layout live in the file and step() ping-pongs between them,
+// streaming three rows at a time through BitBoardEngine, so the heap only holds a few rows whatever the size.
+// The round and the current board are in the header, opening the file again resumes the run.
+// 100k x 100k cells take 2 x 1.25 GB of file and page cache, none of it on the heap.
+//
+// File layout, little-endian:
+//   header   MAGIC, VERSION, rows, cols, round (long), current board (0 or 1), padded to HEADER_SIZE
+//   boards   board 0 then board 1, rows * wordsPerRow(cols) longs each
+public class MappedGrid implements AutoCloseable {
+    static final int MAGIC = 0x424C4D47; // "BLMG"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    // A MappedByteBuffer holds at most 2 GB, boards are mapped in pieces of whole rows up to this size
+    static final long MAX_MAPPING_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int rows;
+    private final int cols;
+    private final int stride;
+    private final long lastMask;
+    private final int rowsPerMapping;
+    // Pieces of both boards, boards[b][piece]
+    private final LongBuffer[][] boards;
+    private final MappedByteBuffer[] mappings;
+    private long round;
+    private int current;
+
+    private MappedGrid(FileChannel channel, int rows, int cols, long maxMappingBytes) throws IOException {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        this.stride = BitBoardEngine.wordsPerRow(cols);
+        this.lastMask = BitBoardEngine.lastWordMask(cols);
+        long rowBytes = (long) stride * Long.BYTES;
+        this.rowsPerMapping = (int) Math.max(1, Math.min(rows, maxMappingBytes / Math.max(1, rowBytes)));
+        int pieces = rows == 0 ? 0 : (rows + rowsPerMapping - 1) / rowsPerMapping;
+
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        this.boards = new LongBuffer[2][pieces];
+        this.mappings = new MappedByteBuffer[2 * pieces];
+        long boardBytes = rows * rowBytes;
+        for (int b = 0; b < 2; b++) {
+            for (int p = 0; p < pieces; p++) {
+                int pieceRows = Math.min(rowsPerMapping, rows - p * rowsPerMapping);
+                long offset = HEADER_SIZE + b * boardBytes + p * rowsPerMapping * rowBytes;
+                MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, offset, pieceRows * rowBytes);
+                mapping.order(ByteOrder.LITTLE_ENDIAN);
+                mappings[b * pieces + p] = mapping;
+                boards[b][p] = mapping.asLongBuffer();
+            }
+        }
+    }
+
+    // New empty grid, an existing file is replaced
+    public static MappedGrid create(Path file, int rows, int cols) throws IOException {
+        return create(file, rows, cols, MAX_MAPPING_BYTES);
+    }
+
+    static MappedGrid create(Path file, int rows, int cols, long maxMappingBytes) throws IOException {
+        if (rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Invalid grid size: " + rows + "x" + cols);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            // Sparse on most file systems, the boards start dead
+            channel.write(ByteBuffer.allocate(1), fileSize(rows, cols) - 1);
+            MappedGrid grid = new MappedGrid(channel, rows, cols, maxMappingBytes);
+            grid.header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, rows).putInt(12, cols);
+            grid.writeHeader();
+            return grid;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Resume a grid from its file, at the round it was left
+    public static MappedGrid open(Path file) throws IOException {
+        return open(file, MAX_MAPPING_BYTES);
+    }
+
+    static MappedGrid open(Path file, long maxMappingBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(bytes, 0);
+            if (bytes.getInt(0) != MAGIC || bytes.getInt(4) != VERSION) {
+                throw new IOException("Not a mapped grid: " + file);
+            }
+            int rows = bytes.getInt(8);
+            int cols = bytes.getInt(12);
+            if (rows < 1 || cols < 1 || channel.size() < fileSize(rows, cols)) {
+                throw new IOException("Truncated mapped grid: " + file);
+            }
+            MappedGrid grid = new MappedGrid(channel, rows, cols, maxMappingBytes);
+            grid.round = bytes.getLong(16);
+            grid.current = bytes.getInt(24);
+            return grid;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Fills the grid like GenRandomizer.randomBoard with the same seed and density, one row at a time
+    public void randomize(long seed, double density) {
+        long threshold = GenRandomizer.threshold(density);
+        SplittableRandom[] randoms = GenRandomizer.chunkRandoms(seed, rows);
+        long[] row = new long[stride];
+        for (int i = 0; i < rows; i++) {
+            SplittableRandom rand = randoms[i / GenRandomizer.CHUNK_ROWS];
+            for (int w = 0; w < stride; w++) {
+                row[w] = GenRandomizer.nextWord(rand, threshold);
+            }
+            row[stride - 1] &= lastMask;
+            writeRow(current, i, row);
+        }
+    }
+
+    // Computes the next round into the other board and makes it current, returns how many cells changed
+    public long step() {
+        int target = 1 - current;
+        long[] above = new long[stride];
+        long[] row = new long[stride];
+        long[] below = new long[stride];
+        long[] newRow = new long[stride];
+        readRow(current, 0, row);
+
+        long changed = 0;
+        for (int i = 0; i < rows; i++) {
+            boolean hasBelow = i < rows - 1;
+            if (hasBelow) {
+                readRow(current, i + 1, below);
+            }
+            changed += BitBoardEngine.stepRow(i > 0 ? above : null, row, hasBelow ? below : null,
+                    newRow, stride, lastMask);
+            writeRow(target, i, newRow);
+
+            long[] swap = above;
+            above = row;
+            row = below;
+            below = swap;
+        }
+        // The other board is complete before the header points to it
+        current = target;
+        round++;
+        writeHeader();
+        return changed;
+    }
+
+    public int getCell(int row, int col) {
+        checkBounds(row, col);
+        return (int) (word(current, row, col >>> 6) >>> col) & 1;
+    }
+
+    public void setCell(int row, int col, int bacteria) {
+        checkBounds(row, col);
+        int p = row / rowsPerMapping;
+        int index = (row % rowsPerMapping) * stride + (col >>> 6);
+        long word = boards[current][p].get(index);
+        long bit = 1L << col;
+        boards[current][p].put(index, bacteria == 1 ? word | bit : word & ~bit);
+    }
+
+    // Copy of a window of the current board, to show or check part of a big grid
+    public int[][] toArray(int top, int left, int height, int width) {
+        int[][] window = new int[height][width];
+        for (int i = 0; i < height; i++) {
+            for (int j = 0; j < width; j++) {
+                window[i][j] = getCell(top + i, left + j);
+            }
+        }
+        return window;
+    }
+
+    // Live cells of the current board
+    public long getPopulation() {
+        long[] row = new long[stride];
+        long population = 0;
+        for (int i = 0; i < rows; i++) {
+            readRow(current, i, row);
+            for (long word : row) {
+                population += Long.bitCount(word);
+            }
+        }
+        return population;
+    }
+
+    // Writes the mapped pages to the file, the run can be resumed from here after a crash
+    public void force() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+        header.force();
+    }
+
+    public long getRound() {
+        return round;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    // Bytes of the file, both boards and the header
+    public long getFileSize() throws IOException {
+        return channel.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // Size of a grid's file, to check the disk before creating it
+    public static long fileSize(int rows, int cols) {
+        return HEADER_SIZE + 2L * rows * BitBoardEngine.wordsPerRow(cols) * Long.BYTES;
+    }
+
+    private void writeHeader() {
+        header.putLong(16, round).putInt(24, current);
+    }
+
+    private long word(int board, int row, int w) {
+        return boards[board][row / rowsPerMapping].get((row % rowsPerMapping) * stride + w);
+    }
+
+    private void readRow(int board, int row, long[] words) {
+        boards[board][row / rowsPerMapping].get((row % rowsPerMapping) * stride, words);
+    }
+
+    private void writeRow(int board, int row, long[] words) {
+        boards[board][row / rowsPerMapping].put((row % rowsPerMapping) * stride, words);
+    }
+
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell " + row + "," + col + " is outside " + rows + "x" + cols);
+        }
+    }
+}
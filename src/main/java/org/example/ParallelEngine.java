@@ -0,0 +1,118 @@
+package org.example;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Engine that splits the grid into row bands and steps them on a ForkJoinPool.
+// Every band writes its own rows of newGen, so the result is the same as ArrayEngine.
+public class ParallelEngine implements GenerationEngine, AutoCloseable {
+    private static final int DEFAULT_BAND_HEIGHT = 64;
+    private final ForkJoinPool pool;
+    private final int bandHeight;
+    // Changed cells of every band, merged in band order after the step
+    private ChangeSet[] bandChanges = new ChangeSet[0];
+
+    // One worker per core and the default band height
+    public ParallelEngine() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_BAND_HEIGHT);
+    }
+
+    public ParallelEngine(int parallelism, int bandHeight) {
+        if (bandHeight < 1) {
+            throw new IllegalArgumentException("Band height must be at least 1: " + bandHeight);
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.bandHeight = bandHeight;
+    }
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        return stepBands(gen, newGen, gen.length, changes);
+    }
+
+    // gen and newGen are both int[][] or both ByteGrid
+    private int stepBands(Object gen, Object newGen, int rows, ChangeSet changes) {
+        if (changes == null) {
+            return pool.invoke(new Band(gen, newGen, 0, rows, false));
+        }
+        int bands = (rows + bandHeight - 1) / bandHeight;
+        if (bandChanges.length != bands) {
+            bandChanges = new ChangeSet[bands];
+            for (int b = 0; b < bands; b++) {
+                bandChanges[b] = new ChangeSet();
+            }
+        }
+        for (ChangeSet band : bandChanges) {
+            band.clear(changes.getColumns());
+        }
+        int changed = pool.invoke(new Band(gen, newGen, 0, rows, true));
+        for (ChangeSet band : bandChanges) {
+            changes.addAll(band);
+        }
+        return changed;
+    }
+
+    // A ByteGrid is split the same way and stepped on its cells
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (!(gen instanceof ByteGrid in && newGen instanceof ByteGrid out)) {
+            return GenerationEngine.super.step(gen, newGen, changes);
+        }
+        return stepBands(in, out, in.getRows(), changes);
+    }
+
+    @Override
+    public String getName() {
+        return "parallel";
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getBandHeight() {
+        return bandHeight;
+    }
+
+    // Stops the worker threads
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Rows [fromRow, toRow), split in halves until they fit in one band
+    private class Band extends RecursiveTask<Integer> {
+        private final Object gen;
+        private final Object newGen;
+        private final int fromRow;
+        private final int toRow;
+        private final boolean record;
+
+        Band(Object gen, Object newGen, int fromRow, int toRow, boolean record) {
+            this.gen = gen;
+            this.newGen = newGen;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.record = record;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (toRow - fromRow <= bandHeight) {
+                ChangeSet changes = record ? bandChanges[fromRow / bandHeight] : null;
+                if (gen instanceof int[][] ints) {
+                    return ArrayEngine.stepRows(ints, (int[][]) newGen, fromRow, toRow, changes);
+                }
+                ByteGrid cells = (ByteGrid) gen;
+                return ArrayEngine.stepCells(cells, (ByteGrid) newGen, fromRow, toRow, 0, cells.getCols(), changes);
+            }
+            // Split on a band boundary so bands keep their height
+            int bands = (toRow - fromRow + bandHeight - 1) / bandHeight;
+            int middle = fromRow + (bands / 2) * bandHeight;
+            Band top = new Band(gen, newGen, fromRow, middle, record);
+            top.fork();
+            int bottom = new Band(gen, newGen, middle, toRow, record).compute();
+            return top.join() + bottom;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package org.example;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+// Population, births, deaths and bounding box of the live cells, kept up to date from the cells each step flipped.
+// Only reset() passes over the whole grid, every update is O(changes). Per-row and per-column counts give the
+// bounding box without looking at cells. With rectangle queries on, a 2D Fenwick tree of the cells answers
+// "live cells in a rectangle" in O(log rows * log cols): a summed-area table would answer in O(1) but has to be
+// rebuilt in full after every round, the tree takes O(log rows * log cols) per flipped cell instead.
+public class PopulationStats {
+    // 8 cells of a ByteGrid as one long, a popcount gives how many of them are alive
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final boolean rectangleQueries;
+    // -1 until the first reset()
+    private int rows = -1;
+    private int cols = -1;
+    private long population;
+    private long births;
+    private long deaths;
+    private int[] rowCounts = new int[0];
+    private int[] colCounts = new int[0];
+    // Bounding box, recomputed from the counts when a death emptied one of its edges
+    private int minRow;
+    private int maxRow;
+    private int minCol;
+    private int maxCol;
+    private boolean boundsStale;
+    // 1-based Fenwick tree, (rows + 1) x (cols + 1), only with rectangle queries
+    private int[] tree;
+
+    // Population, births, deaths and bounding box only
+    public PopulationStats() {
+        this(false);
+    }
+
+    // rectangleQueries adds countIn() for 4 bytes per cell
+    public PopulationStats(boolean rectangleQueries) {
+        this.rectangleQueries = rectangleQueries;
+    }
+
+    // Counts every cell of a gen, the only full pass
+    public void reset(Grid gen) {
+        resize(gen.getRows(), gen.getCols());
+        // A ByteGrid is counted in place, other backends row by row through a copy
+        ByteGrid flat = gen instanceof ByteGrid grid ? grid : null;
+        byte[] row = flat == null ? new byte[cols] : null;
+        for (int i = 0; i < rows; i++) {
+            byte[] cells;
+            int offset;
+            if (flat != null) {
+                cells = flat.getCells();
+                offset = i * cols;
+            } else {
+                gen.readRow(i, row);
+                cells = row;
+                offset = 0;
+            }
+            rowCounts[i] = countRow(cells, offset, cols);
+            for (int j = 0; j < cols; j++) {
+                colCounts[j] += cells[offset + j];
+            }
+            if (tree != null) {
+                for (int j = 0; j < cols; j++) {
+                    tree[(i + 1) * (cols + 1) + j + 1] = cells[offset + j];
+                }
+            }
+        }
+        finishReset();
+    }
+
+    // Same from a board in the BitBoardEngine layout, a popcount per word
+    public void reset(long[] board, int rows, int cols) {
+        resize(rows, cols);
+        int stride = BitBoardEngine.wordsPerRow(cols);
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int w = 0; w < stride; w++) {
+                long word = board[i * stride + w];
+                count += Long.bitCount(word);
+                while (word != 0) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(word);
+                    colCounts[j]++;
+                    if (tree != null) {
+                        tree[(i + 1) * (cols + 1) + j + 1] = 1;
+                    }
+                    word &= word - 1;
+                }
+            }
+            rowCounts[i] = count;
+        }
+        finishReset();
+    }
+
+    // Records a step from the gen after it and the cells it flipped: alive now is a birth, dead now a death
+    public void update(Grid gen, ChangeSet changes) {
+        births = 0;
+        deaths = 0;
+        for (int k = 0; k < changes.size(); k++) {
+            int row = changes.getRow(k);
+            int col = changes.getCol(k);
+            int delta;
+            if (gen.get(row, col) == 1) {
+                births++;
+                delta = 1;
+                if (!boundsStale) {
+                    minRow = Math.min(minRow, row);
+                    maxRow = Math.max(maxRow, row);
+                    minCol = Math.min(minCol, col);
+                    maxCol = Math.max(maxCol, col);
+                }
+            } else {
+                deaths++;
+                delta = -1;
+            }
+            rowCounts[row] += delta;
+            colCounts[col] += delta;
+            if (delta < 0 && (rowCounts[row] == 0 && (row == minRow || row == maxRow)
+                    || colCounts[col] == 0 && (col == minCol || col == maxCol))) {
+                boundsStale = true;
+            }
+            if (tree != null) {
+                add(row, col, delta);
+            }
+        }
+        population += births - deaths;
+    }
+
+    public long getPopulation() {
+        return population;
+    }
+
+    // Cells born in the last update
+    public long getBirths() {
+        return births;
+    }
+
+    // Cells that died in the last update
+    public long getDeaths() {
+        return deaths;
+    }
+
+    public int getRowCount(int row) {
+        return rowCounts[row];
+    }
+
+    public int getColCount(int col) {
+        return colCounts[col];
+    }
+
+    // Bounding box of the live cells, -1 when there are none
+    public int getMinRow() {
+        refreshBounds();
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        refreshBounds();
+        return maxRow;
+    }
+
+    public int getMinCol() {
+        refreshBounds();
+        return minCol;
+    }
+
+    public int getMaxCol() {
+        refreshBounds();
+        return maxCol;
+    }
+
+    public boolean hasRectangleQueries() {
+        return rectangleQueries;
+    }
+
+    // Live cells in rows [fromRow, toRow) and columns [fromCol, toCol)
+    public long countIn(int fromRow, int fromCol, int toRow, int toCol) {
+        if (tree == null) {
+            throw new IllegalStateException(rectangleQueries
+                    ? "Nothing counted yet, call reset() first" : "Rectangle queries are off");
+        }
+        if (fromRow < 0 || fromCol < 0 || toRow > rows || toCol > cols || fromRow > toRow || fromCol > toCol) {
+            throw new IllegalArgumentException("Invalid rectangle: rows [" + fromRow + ", " + toRow
+                    + ") cols [" + fromCol + ", " + toCol + ") of " + rows + "x" + cols);
+        }
+        return prefix(toRow, toCol) - prefix(fromRow, toCol) - prefix(toRow, fromCol) + prefix(fromRow, fromCol);
+    }
+
+    private void resize(int newRows, int newCols) {
+        if (newRows != rows || newCols != cols) {
+            rows = newRows;
+            cols = newCols;
+            rowCounts = new int[rows];
+            colCounts = new int[cols];
+            tree = rectangleQueries ? new int[(rows + 1) * (cols + 1)] : null;
+        } else {
+            Arrays.fill(colCounts, 0);
+            if (tree != null) {
+                Arrays.fill(tree, 0);
+            }
+        }
+    }
+
+    // Totals and bounds from the row and column counts, and the tree built in place from the cells
+    private void finishReset() {
+        population = 0;
+        for (int count : rowCounts) {
+            population += count;
+        }
+        births = 0;
+        deaths = 0;
+        boundsStale = true;
+        if (tree != null) {
+            int width = cols + 1;
+            for (int i = 1; i <= rows; i++) {
+                for (int j = 1; j <= cols; j++) {
+                    int parent = j + (j & -j);
+                    if (parent <= cols) {
+                        tree[i * width + parent] += tree[i * width + j];
+                    }
+                }
+            }
+            for (int i = 1; i <= rows; i++) {
+                int parent = i + (i & -i);
+                if (parent <= rows) {
+                    for (int j = 1; j <= cols; j++) {
+                        tree[parent * width + j] += tree[i * width + j];
+                    }
+                }
+            }
+        }
+    }
+
+    private void refreshBounds() {
+        if (!boundsStale) {
+            return;
+        }
+        minRow = first(rowCounts);
+        maxRow = last(rowCounts);
+        minCol = first(colCounts);
+        maxCol = last(colCounts);
+        // An empty grid has no box for births to grow, it's looked up again once there are cells
+        boundsStale = minRow < 0;
+    }
+
+    private void add(int row, int col, int delta) {
+        int width = cols + 1;
+        for (int i = row + 1; i <= rows; i += i & -i) {
+            for (int j = col + 1; j <= cols; j += j & -j) {
+                tree[i * width + j] += delta;
+            }
+        }
+    }
+
+    // Live cells in rows [0, row) and columns [0, col)
+    private long prefix(int row, int col) {
+        int width = cols + 1;
+        long sum = 0;
+        for (int i = row; i > 0; i -= i & -i) {
+            for (int j = col; j > 0; j -= j & -j) {
+                sum += tree[i * width + j];
+            }
+        }
+        return sum;
+    }
+
+    // Live cells of a ByteGrid row, 8 at a time
+    private static int countRow(byte[] cells, int offset, int length) {
+        int count = 0;
+        int j = 0;
+        for (; j + 8 <= length; j += 8) {
+            count += Long.bitCount((long) LONGS.get(cells, offset + j));
+        }
+        for (; j < length; j++) {
+            count += cells[offset + j];
+        }
+        return count;
+    }
+
+    private static int first(int[] counts) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) return i;
+        }
+        return -1;
+    }
+
+    private static int last(int[] counts) {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) return i;
+        }
+        return -1;
+    }
+}
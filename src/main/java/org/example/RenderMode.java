@@ -0,0 +1,17 @@
+package org.example;
+
+// How BacteriaLifeUI draws the generation
+public enum RenderMode {
+    // One Circle component per cell, fine for small grids
+    CIRCLES,
+    // Whole generation in one image, for big grids
+    CANVAS;
+
+    // Circles stop being usable above this size
+    static final int CIRCLES_LIMIT = 100;
+
+    // Best mode for a grid size
+    public static RenderMode forDimension(int dimension) {
+        return dimension > CIRCLES_LIMIT ? CANVAS : CIRCLES;
+    }
+}
@@ -0,0 +1,71 @@
+package org.example;
+
+import java.util.Locale;
+
+// Life-like rule in B/S notation, e.g. B3/S23 (the default) or B36/S23 (HighLife).
+// Compiled to a 512-entry table indexed by the 3x3 neighbourhood: bit 8 is the top left cell,
+// bit 0 the bottom right one and bit 4 the cell itself, so a step needs no neighbour loop and no branches.
+public record Rule(int birth, int survival) {
+    // Births and survivals of ArrayEngine.nextState
+    public static final Rule CONWAY = parse("B3/S23");
+    public static final Rule HIGHLIFE = parse("B36/S23");
+    static final int CENTRE = 1 << 4;
+
+    // birth and survival have bit n set for n neighbours, n from 0 to 8
+    public Rule {
+        if ((birth | survival) >>> 9 != 0) {
+            throw new IllegalArgumentException("Neighbour counts go from 0 to 8");
+        }
+    }
+
+    // Parses B/S notation, case insensitive: "B3/S23", "b36/s23", "B/S012345678"
+    public static Rule parse(String notation) {
+        String[] parts = notation.trim().toUpperCase(Locale.ROOT).split("/", -1);
+        if (parts.length != 2 || !parts[0].startsWith("B") || !parts[1].startsWith("S")) {
+            throw new IllegalArgumentException("Rule should look like B3/S23: " + notation);
+        }
+        return new Rule(counts(parts[0].substring(1), notation), counts(parts[1].substring(1), notation));
+    }
+
+    private static int counts(String digits, String notation) {
+        int mask = 0;
+        for (char c : digits.toCharArray()) {
+            if (c < '0' || c > '8') {
+                throw new IllegalArgumentException("Neighbour counts go from 0 to 8: " + notation);
+            }
+            mask |= 1 << (c - '0');
+        }
+        return mask;
+    }
+
+    // Next state of the centre cell for every 3x3 neighbourhood
+    public byte[] compile() {
+        byte[] table = new byte[512];
+        for (int index = 0; index < 512; index++) {
+            int neighbours = Integer.bitCount(index & ~CENTRE);
+            int rule = (index & CENTRE) != 0 ? survival : birth;
+            table[index] = (byte) ((rule >>> neighbours) & 1);
+        }
+        return table;
+    }
+
+    // Next state of one cell, same as the table
+    public int nextState(int bacteria, int neighbours) {
+        return ((bacteria == 1 ? survival : birth) >>> neighbours) & 1;
+    }
+
+    @Override
+    public String toString() {
+        return "B" + digits(birth) + "/S" + digits(survival);
+    }
+
+    private static String digits(int mask) {
+        StringBuilder digits = new StringBuilder();
+        for (int n = 0; n <= 8; n++) {
+            if ((mask >>> n & 1) != 0) {
+                digits.append(n);
+            }
+        }
+        return digits.toString();
+    }
+}
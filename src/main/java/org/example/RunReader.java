@@ -0,0 +1,196 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Reads a file written by RunRecorder. Seeking to a round loads the nearest keyframe before it
+// from the footer index and applies the deltas up to the round, the rest of the file is never read.
+public class RunReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int rows;
+    private final int cols;
+    private final int keyframeInterval;
+    private final int[] keyframeRounds;
+    private final long[] keyframeOffsets;
+    private final long[] words;
+    private final long footerOffset;
+    private final int lastRound;
+
+    public RunReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = readAt(0, 20);
+            if (header.getInt() != RunRecorder.MAGIC || header.getInt() != RunRecorder.VERSION) {
+                throw new IOException("Not a run recording: " + file);
+            }
+            this.rows = header.getInt();
+            this.cols = header.getInt();
+            this.keyframeInterval = header.getInt();
+            this.words = new long[rows * BitBoardEngine.wordsPerRow(cols)];
+
+            ByteBuffer trailer = readAt(channel.size() - 12, 12);
+            this.footerOffset = trailer.getLong();
+            if (trailer.getInt() != RunRecorder.MAGIC) {
+                throw new IOException("Run recording was not closed: " + file);
+            }
+            ByteBuffer footer = readAt(footerOffset, (int) (channel.size() - 12 - footerOffset));
+            int keyframes = footer.getInt();
+            this.keyframeRounds = new int[keyframes];
+            this.keyframeOffsets = new long[keyframes];
+            for (int k = 0; k < keyframes; k++) {
+                keyframeRounds[k] = footer.getInt();
+                keyframeOffsets[k] = footer.getLong();
+            }
+            this.lastRound = footer.getInt();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Gen at a round, from the nearest keyframe at or before it
+    public int[][] seek(int round) throws IOException {
+        int k = keyframeBefore(round);
+        if (k < 0) {
+            throw new IllegalArgumentException("Round " + round + " is before the first keyframe");
+        }
+        int[][] gen = new int[rows][cols];
+        channel.position(keyframeOffsets[k]);
+        buffer.clear().flip();
+
+        int current = -1;
+        while (current < round && channel.position() - buffer.remaining() < footerOffset) {
+            require(5);
+            byte type = buffer.get();
+            int frameRound = buffer.getInt();
+            if (frameRound > round) {
+                break;
+            }
+            if (type == RunRecorder.KEYFRAME) {
+                readKeyframe(gen);
+            } else if (type == RunRecorder.DELTA) {
+                applyDelta(gen);
+            } else {
+                throw new IOException("Corrupt frame at round " + frameRound);
+            }
+            current = frameRound;
+        }
+        if (current != round) {
+            throw new IllegalArgumentException("Round " + round + " is not in the recording");
+        }
+        return gen;
+    }
+
+    // Last recorded round, -1 for an empty recording
+    public int getLastRound() {
+        return lastRound;
+    }
+
+    // First recorded round, -1 for an empty recording
+    public int getFirstRound() {
+        return keyframeRounds.length == 0 ? -1 : keyframeRounds[0];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    public int getKeyframes() {
+        return keyframeRounds.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    // Index of the last keyframe at or before the round, -1 if none
+    private int keyframeBefore(int round) {
+        int low = 0;
+        int high = keyframeRounds.length - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (keyframeRounds[mid] <= round) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private void readKeyframe(int[][] gen) throws IOException {
+        for (int w = 0; w < words.length; w++) {
+            require(8);
+            words[w] = buffer.getLong();
+        }
+        BitBoardEngine.unpack(words, gen);
+    }
+
+    private void applyDelta(int[][] gen) throws IOException {
+        int runs = getVarint();
+        int index = 0;
+        for (int r = 0; r < runs; r++) {
+            index += getVarint();
+            int length = getVarint();
+            for (int k = 0; k < length; k++, index++) {
+                gen[index / cols][index % cols] ^= 1;
+            }
+        }
+    }
+
+    private int getVarint() throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            require(1);
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    // Make sure the buffer holds at least this many bytes
+    private void require(int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < bytes) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of the recording");
+            }
+        }
+        buffer.flip();
+    }
+
+    private ByteBuffer readAt(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IOException("Truncated run recording");
+        }
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, offset + bytes.position()) < 0) {
+                throw new IOException("Truncated run recording");
+            }
+        }
+        return bytes.flip();
+    }
+}
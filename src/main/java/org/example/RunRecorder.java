@@ -0,0 +1,198 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Writes a run to a compact binary file: a keyframe every keyframeInterval rounds and the flipped cells in between.
+// Deltas are runs of consecutive flipped cells (gap since the last run, length) as varints, keyframes are
+// bit-packed rows in the BitBoardEngine layout. A footer indexes the keyframes so RunReader can seek.
+//
+// File layout, big-endian:
+//   header   MAGIC, VERSION, rows, cols, keyframeInterval
+//   frames   KEYFRAME round words... | DELTA round runCount (gap length)...
+//   footer   keyframeCount (round offset)..., lastRound, footerOffset, MAGIC
+public class RunRecorder implements StepListener, AutoCloseable {
+    static final int MAGIC = 0x424C5243; // "BLRC"
+    static final int VERSION = 1;
+    static final byte KEYFRAME = 'K';
+    static final byte DELTA = 'D';
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final int keyframeInterval;
+    private final long[] words;
+    // Flipped cells of the current delta, sorted
+    private int[] sorted = new int[64];
+    // Round and file offset of every keyframe, written in the footer
+    private int[] keyframeRounds = new int[16];
+    private long[] keyframeOffsets = new long[16];
+    private int keyframes;
+    private long position;
+    private int lastRound = -1;
+
+    public RunRecorder(Path file, int rows, int cols, int keyframeInterval) throws IOException {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be at least 1: " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+        this.words = new long[rows * BitBoardEngine.wordsPerRow(cols)];
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        ensure(20);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols).putInt(keyframeInterval);
+        position += 20;
+    }
+
+    // Records the logic's loaded gen as the first keyframe, call it after loadGen()
+    public void start(BacteriaLifeLogic logic) {
+        try {
+            writeKeyframe(logic.getRound(), logic.getCurrentGrid());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void onStep(BacteriaLifeLogic logic) {
+        try {
+            record(logic.getRound(), logic.getCurrentGrid(), logic.getLastChanges());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Records a round, a keyframe on the interval or after a skipped round and the changes otherwise
+    public void record(int round, int[][] gen, ChangeSet changes) throws IOException {
+        record(round, new IntArrayGrid(gen), changes);
+    }
+
+    public void record(int round, Grid gen, ChangeSet changes) throws IOException {
+        if (lastRound < 0 || round != lastRound + 1 || round % keyframeInterval == 0) {
+            writeKeyframe(round, gen);
+        } else {
+            writeDelta(round, changes);
+        }
+    }
+
+    public void writeKeyframe(int round, int[][] gen) throws IOException {
+        writeKeyframe(round, new IntArrayGrid(gen));
+    }
+
+    public void writeKeyframe(int round, Grid gen) throws IOException {
+        if (keyframes == keyframeRounds.length) {
+            keyframeRounds = Arrays.copyOf(keyframeRounds, keyframes * 2);
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframes * 2);
+        }
+        keyframeRounds[keyframes] = round;
+        keyframeOffsets[keyframes] = position;
+        keyframes++;
+
+        BitBoardEngine.pack(gen, words);
+        ensure(5);
+        buffer.put(KEYFRAME).putInt(round);
+        position += 5;
+        for (long word : words) {
+            ensure(8);
+            buffer.putLong(word);
+            position += 8;
+        }
+        lastRound = round;
+    }
+
+    public void writeDelta(int round, ChangeSet changes) throws IOException {
+        int size = changes.size();
+        if (sorted.length < size) {
+            sorted = new int[Math.max(size, sorted.length * 2)];
+        }
+        for (int k = 0; k < size; k++) {
+            sorted[k] = changes.getIndex(k);
+        }
+        // Engines that work by tiles don't record the cells in order
+        Arrays.sort(sorted, 0, size);
+
+        int runs = 0;
+        for (int k = 0; k < size; k++) {
+            if (k == 0 || sorted[k] != sorted[k - 1] + 1) {
+                runs++;
+            }
+        }
+        ensure(5);
+        buffer.put(DELTA).putInt(round);
+        position += 5;
+        putVarint(runs);
+
+        int end = 0;
+        int k = 0;
+        while (k < size) {
+            int start = sorted[k];
+            int length = 1;
+            while (k + length < size && sorted[k + length] == start + length) {
+                length++;
+            }
+            putVarint(start - end);
+            putVarint(length);
+            end = start + length;
+            k += length;
+        }
+        lastRound = round;
+    }
+
+    // Bytes written so far, footer excluded
+    public long getBytesWritten() {
+        return position;
+    }
+
+    public int getKeyframes() {
+        return keyframes;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            long footerOffset = position;
+            ensure(4);
+            buffer.putInt(keyframes);
+            for (int k = 0; k < keyframes; k++) {
+                ensure(12);
+                buffer.putInt(keyframeRounds[k]).putLong(keyframeOffsets[k]);
+            }
+            ensure(16);
+            buffer.putInt(lastRound).putLong(footerOffset).putInt(MAGIC);
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // Unsigned LEB128, 7 bits per byte
+    private void putVarint(int value) throws IOException {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+            position++;
+        }
+        buffer.put((byte) value);
+        position++;
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,14 @@
+package org.example;
+
+import java.util.Locale;
+
+// Outcome of one headless run
+public record RunResult(int rounds, long population, CycleStatus status, long wallNanos) {
+
+    // Compact key=value record, one line per run
+    public String format() {
+        return String.format(Locale.ROOT, "rounds=%d population=%d status=%s period=%d since=%d wallMs=%.3f",
+                rounds, population, status.state().name().toLowerCase(Locale.ROOT), status.period(), status.since(),
+                wallNanos / 1_000_000.0);
+    }
+}
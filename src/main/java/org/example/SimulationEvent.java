@@ -0,0 +1,35 @@
+package org.example;
+
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+// Fields shared by the JFR events of the simulation. Events are created, begun and only filled in
+// when shouldCommit() says a recording wants them, so they cost next to nothing while JFR is off.
+// There's one per round, so no stack traces.
+@StackTrace(false)
+public abstract class SimulationEvent extends Event {
+    @Label("Round")
+    int round;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Changed Cells")
+    int changedCells;
+
+    @Label("Engine")
+    String engine;
+
+    // Sets the shared fields, engine may be null
+    void set(int round, Grid gen, int changedCells, GenerationEngine engine) {
+        this.round = round;
+        this.rows = gen.getRows();
+        this.cols = gen.getCols();
+        this.changedCells = changedCells;
+        this.engine = engine == null ? null : engine.getName();
+    }
+}
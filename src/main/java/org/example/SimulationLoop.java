@@ -0,0 +1,125 @@
+package org.example;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Runs BacteriaLifeLogic.step() on its own thread and publishes every round as a GenSnapshot
+// in a single slot. The reader (the EDT) only ever takes the newest snapshot, the ones it
+// didn't get to are dropped, so simulation speed and UI responsiveness don't depend on each other.
+// Snapshots are triple buffered: the thread writes one, the slot holds one and the reader owns the
+// last one it took, so a round costs a copy into a reused buffer and no allocation of the grid.
+// A taken snapshot is only valid until the next poll(). The logic must not be used by anyone else
+// while the loop runs.
+public class SimulationLoop {
+    private final BacteriaLifeLogic logic;
+    // Pause between rounds, 0 steps as fast as possible
+    private final long periodNanos;
+    // Index of the snapshot in the slot, with FRESH set until the reader takes it
+    private static final int FRESH = 4;
+    private final GenSnapshot[] snapshots = new GenSnapshot[3];
+    private final AtomicInteger latest = new AtomicInteger(1);
+    // Owned by the simulation thread and by the reader
+    private int back = 2;
+    private int front = 0;
+    private volatile boolean running;
+    private volatile long published;
+    private volatile long dropped;
+    private Thread thread;
+
+    // roundsPerSecond <= 0 means no limit
+    public SimulationLoop(BacteriaLifeLogic logic, double roundsPerSecond) {
+        this.logic = logic;
+        this.periodNanos = roundsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / roundsPerSecond) : 0;
+    }
+
+    // Load the gen and start stepping it on a new daemon thread
+    public synchronized void start(int[][] gen) {
+        if (running) {
+            throw new IllegalStateException("Simulation is already running");
+        }
+        logic.loadGen(gen);
+        launch();
+    }
+
+    // Same with any Grid backend, the logic steps a copy in that backend
+    public synchronized void start(Grid gen) {
+        if (running) {
+            throw new IllegalStateException("Simulation is already running");
+        }
+        logic.loadGen(gen);
+        launch();
+    }
+
+    private void launch() {
+        running = true;
+        thread = new Thread(this::run, "bacteria-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Ask the thread to stop and wait for it
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread current = thread;
+        if (current != null) {
+            LockSupport.unpark(current);
+            current.join();
+        }
+    }
+
+    // Newest snapshot not taken yet, or null if there's nothing new
+    public GenSnapshot poll() {
+        if ((latest.get() & FRESH) == 0) {
+            return null;
+        }
+        // The snapshot taken before goes back to the simulation thread
+        front = latest.getAndSet(front) & ~FRESH;
+        return snapshots[front];
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Snapshots published so far
+    public long getPublished() {
+        return published;
+    }
+
+    // Snapshots replaced before anyone took them
+    public long getDropped() {
+        return dropped;
+    }
+
+    private void run() {
+        long next = System.nanoTime();
+        while (running) {
+            int changes = logic.step();
+            boolean finished = changes == 0 || logic.getStatus().isFinished();
+            snapshots[back] = GenSnapshot.of(logic, finished, snapshots[back]);
+            publish();
+            if (finished) {
+                break;
+            }
+            if (periodNanos > 0) {
+                next += periodNanos;
+                long wait;
+                while (running && (wait = next - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+        }
+        running = false;
+    }
+
+    // Only the simulation thread writes the counters
+    private void publish() {
+        int previous = latest.getAndSet(back | FRESH);
+        if ((previous & FRESH) != 0) {
+            dropped++;
+        }
+        back = previous & ~FRESH;
+        published++;
+    }
+}
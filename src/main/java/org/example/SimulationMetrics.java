@@ -0,0 +1,316 @@
+package org.example;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Metrics of a running simulation, fed by BacteriaLifeLogic.step() and the UI and published as an MBean.
+// Step fields are only written by the stepping thread and frame fields by the EDT, so plain volatile
+// fields are enough and a step costs two nanoTime calls and two allocation counter reads, births and
+// deaths come from the logic's PopulationStats. reset() keeps it that way: it only raises flags, and each
+// thread clears its own counters before its next update.
+public class SimulationMetrics implements SimulationMetricsMBean {
+    private static final int BUCKETS = 64;
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKETS);
+    private ObjectName objectName;
+    // Set by reset() on any thread
+    private volatile boolean stepResetPending;
+    private volatile boolean frameResetPending;
+
+    // Written by the stepping thread
+    private long stepStart;
+    private long allocatedAtStart;
+    private volatile long round;
+    private volatile long steps;
+    private volatile long lastStepNanos;
+    private volatile long totalStepNanos;
+    private volatile long maxStepNanos;
+    private volatile long totalCells;
+    private volatile long population;
+    private volatile long lastBirths;
+    private volatile long lastDeaths;
+    private volatile long totalBirths;
+    private volatile long totalDeaths;
+    private volatile long lastAllocatedBytes = -1;
+    private volatile long totalAllocatedBytes;
+    private volatile long roundLimitHits;
+
+    // Written by the EDT
+    private volatile long frames;
+    private volatile long lastFrameNanos;
+    private volatile long totalFrameNanos;
+
+    // Registers new metrics on the platform MBean server as org.example:type=SimulationMetrics,name=<name>
+    public static SimulationMetrics register(String name) {
+        SimulationMetrics metrics = new SimulationMetrics();
+        try {
+            ObjectName objectName = new ObjectName("org.example:type=SimulationMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            metrics.objectName = objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("Metrics already registered: " + name, e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't register metrics " + name, e);
+        }
+        return metrics;
+    }
+
+    public void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't unregister metrics " + objectName, e);
+        }
+        objectName = null;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    // A gen with that many live cells was loaded, after that the logic's PopulationStats keep the count
+    public void runStarted(long population, int round) {
+        this.population = population;
+        this.round = round;
+    }
+
+    public void stepStarted() {
+        applyStepReset();
+        allocatedAtStart = allocatedBytes();
+        stepStart = System.nanoTime();
+    }
+
+    public void stepFinished(BacteriaLifeLogic logic) {
+        long nanos = System.nanoTime() - stepStart;
+        long allocated = allocatedAtStart < 0 ? -1 : allocatedBytes() - allocatedAtStart;
+
+        Grid gen = logic.getCurrentGrid();
+        PopulationStats stats = logic.getPopulationStats();
+        long births = stats.getBirths();
+        long deaths = stats.getDeaths();
+
+        round = logic.getRound();
+        steps++;
+        lastStepNanos = nanos;
+        totalStepNanos += nanos;
+        maxStepNanos = Math.max(maxStepNanos, nanos);
+        latencyBuckets.incrementAndGet(bucketOf(nanos));
+        totalCells += (long) gen.getRows() * gen.getCols();
+        lastBirths = births;
+        lastDeaths = deaths;
+        totalBirths += births;
+        totalDeaths += deaths;
+        population = stats.getPopulation();
+        lastAllocatedBytes = allocated;
+        if (allocated > 0) {
+            totalAllocatedBytes += allocated;
+        }
+    }
+
+    public void roundLimitReached(int round) {
+        applyStepReset();
+        this.round = round;
+        roundLimitHits++;
+    }
+
+    // Time the UI took to draw one round
+    public void frameDrawn(long nanos) {
+        if (frameResetPending) {
+            frameResetPending = false;
+            frames = 0;
+            lastFrameNanos = 0;
+            totalFrameNanos = 0;
+        }
+        frames++;
+        lastFrameNanos = nanos;
+        totalFrameNanos += nanos;
+    }
+
+    @Override
+    public long getRound() {
+        return round;
+    }
+
+    @Override
+    public long getSteps() {
+        return steps;
+    }
+
+    @Override
+    public long getLastStepNanos() {
+        return lastStepNanos;
+    }
+
+    @Override
+    public double getMeanStepNanos() {
+        long n = steps;
+        return n == 0 ? 0 : (double) totalStepNanos / n;
+    }
+
+    @Override
+    public long getMaxStepNanos() {
+        return maxStepNanos;
+    }
+
+    @Override
+    public long getStepNanosP50() {
+        return quantile(0.5);
+    }
+
+    @Override
+    public long getStepNanosP99() {
+        return quantile(0.99);
+    }
+
+    @Override
+    public long[] getStepLatencyHistogram() {
+        long[] histogram = new long[BUCKETS];
+        for (int b = 0; b < BUCKETS; b++) {
+            histogram[b] = latencyBuckets.get(b);
+        }
+        return histogram;
+    }
+
+    @Override
+    public double getCellsPerSecond() {
+        long nanos = totalStepNanos;
+        return nanos == 0 ? 0 : totalCells * 1e9 / nanos;
+    }
+
+    @Override
+    public long getPopulation() {
+        return population;
+    }
+
+    @Override
+    public long getLastBirths() {
+        return lastBirths;
+    }
+
+    @Override
+    public long getLastDeaths() {
+        return lastDeaths;
+    }
+
+    @Override
+    public long getTotalBirths() {
+        return totalBirths;
+    }
+
+    @Override
+    public long getTotalDeaths() {
+        return totalDeaths;
+    }
+
+    @Override
+    public long getLastAllocatedBytes() {
+        return lastAllocatedBytes;
+    }
+
+    @Override
+    public double getMeanAllocatedBytes() {
+        long n = steps;
+        return n == 0 || THREADS == null ? 0 : (double) totalAllocatedBytes / n;
+    }
+
+    @Override
+    public long getFrames() {
+        return frames;
+    }
+
+    @Override
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    @Override
+    public double getMeanFrameNanos() {
+        long n = frames;
+        return n == 0 ? 0 : (double) totalFrameNanos / n;
+    }
+
+    @Override
+    public long getRoundLimitHits() {
+        return roundLimitHits;
+    }
+
+    // Clears the counters, population and round are kept. Called from a JMX thread, so the stepping
+    // thread and the EDT do the clearing before their next update and until then the old values show.
+    @Override
+    public void reset() {
+        stepResetPending = true;
+        frameResetPending = true;
+    }
+
+    // On the stepping thread
+    private void applyStepReset() {
+        if (!stepResetPending) {
+            return;
+        }
+        stepResetPending = false;
+        for (int b = 0; b < BUCKETS; b++) {
+            latencyBuckets.set(b, 0);
+        }
+        steps = 0;
+        lastStepNanos = 0;
+        totalStepNanos = 0;
+        maxStepNanos = 0;
+        totalCells = 0;
+        lastBirths = 0;
+        lastDeaths = 0;
+        totalBirths = 0;
+        totalDeaths = 0;
+        lastAllocatedBytes = -1;
+        totalAllocatedBytes = 0;
+        roundLimitHits = 0;
+    }
+
+    // Bucket b holds [2^(b-1), 2^b)
+    private static int bucketOf(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)));
+    }
+
+    private long quantile(double q) {
+        long[] histogram = getStepLatencyHistogram();
+        long total = 0;
+        for (long count : histogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += histogram[b];
+            if (seen >= rank) {
+                return b == 0 ? 0 : 1L << Math.min(62, b);
+            }
+        }
+        return maxStepNanos;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    // HotSpot's per-thread allocation counter, null on JVMs without it
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean counter && counter.isThreadAllocatedMemorySupported()) {
+            counter.setThreadAllocatedMemoryEnabled(true);
+            return counter;
+        }
+        return null;
+    }
+}
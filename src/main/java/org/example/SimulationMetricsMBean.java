@@ -0,0 +1,51 @@
+package org.example;
+
+// JMX view of SimulationMetrics, times in nanoseconds
+public interface SimulationMetricsMBean {
+    long getRound();
+
+    long getSteps();
+
+    long getLastStepNanos();
+
+    double getMeanStepNanos();
+
+    long getMaxStepNanos();
+
+    // Upper bound of the bucket holding the quantile, latencies are kept in powers of two
+    long getStepNanosP50();
+
+    long getStepNanosP99();
+
+    // Steps per latency bucket, bucket b holds latencies in [2^(b-1), 2^b) ns
+    long[] getStepLatencyHistogram();
+
+    double getCellsPerSecond();
+
+    long getPopulation();
+
+    long getLastBirths();
+
+    long getLastDeaths();
+
+    long getTotalBirths();
+
+    long getTotalDeaths();
+
+    // Bytes the stepping thread allocated during the last step, -1 if the JVM can't tell
+    long getLastAllocatedBytes();
+
+    double getMeanAllocatedBytes();
+
+    long getFrames();
+
+    long getLastFrameNanos();
+
+    double getMeanFrameNanos();
+
+    // Steps asked past the round limit
+    long getRoundLimitHits();
+
+    // Counters start again from the next step and the next frame
+    void reset();
+}
@@ -0,0 +1,16 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// JFR event around the stable/periodic check that follows every step()
+@Name("org.example.StabilityCheck")
+@Label("Stability Check")
+@Category("BacteriaLife")
+@Description("Looks for a stable or periodic generation")
+public final class StabilityCheckEvent extends SimulationEvent {
+    @Label("Status")
+    String status;
+}
@@ -0,0 +1,8 @@
+package org.example;
+
+// Called by BacteriaLifeLogic.step() after every round, on the thread that steps the logic.
+// The logic's current gen and last changes are only valid until the next step.
+@FunctionalInterface
+public interface StepListener {
+    void onStep(BacteriaLifeLogic logic);
+}
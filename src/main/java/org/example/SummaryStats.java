@@ -0,0 +1,68 @@
+package org.example;
+
+import java.util.Locale;
+
+// Count, mean, variance, min and max of a stream of values in constant memory.
+// Welford's update per value and Chan's formula to merge two partial results.
+public class SummaryStats {
+    private long count;
+    private double mean;
+    // Sum of squared differences from the mean
+    private double m2;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    // Fold another partial result into this one
+    public void merge(SummaryStats other) {
+        if (other.count == 0) {
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * count * other.count / total;
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    // Sample variance
+    public double getVariance() {
+        return count < 2 ? 0 : m2 / (count - 1);
+    }
+
+    public double getStdDev() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "n=%d mean=%.3f sd=%.3f min=%.0f max=%.0f",
+                count, getMean(), getStdDev(), min, max);
+    }
+}
@@ -0,0 +1,165 @@
+package org.example;
+
+import java.util.Arrays;
+
+// Engine that advances several generations per pass over the grid (temporal cache blocking).
+// The grid is cut in tiles, each tile is copied with a halo as wide as the number of generations
+// into a small local buffer and stepped there again and again. Every generation the valid part of the
+// buffer shrinks by one cell on each side, so after k generations exactly the tile is left, and the grid
+// is read and written once per k rounds instead of once per round. Cells outside the grid are dead,
+// same results as ArrayEngine. Not thread safe, the local buffers are reused between calls.
+// Blocking only happens in advance(): step() is one round for BacteriaLifeLogic, whose cycle detection
+// needs every round, so the engine isn't offered by GenerationEngine.forName.
+public class TemporalBlockingEngine implements GenerationEngine {
+    // 128x128 cells plus a halo of 8 is two ~20 KB buffers, they stay in L1/L2
+    static final int DEFAULT_TILE = 128;
+    static final int DEFAULT_GENERATIONS = 8;
+
+    private final int tile;
+    private final int generations;
+    private byte[] front = new byte[0];
+    private byte[] back = new byte[0];
+    // Only used to step int[][] gens
+    private ByteGrid current = new ByteGrid(0, 0);
+    private ByteGrid next = new ByteGrid(0, 0);
+
+    public TemporalBlockingEngine() {
+        this(DEFAULT_GENERATIONS, DEFAULT_TILE);
+    }
+
+    // Generations per advance() call and tile side in cells
+    public TemporalBlockingEngine(int generations, int tile) {
+        if (generations < 1 || tile < 1) {
+            throw new IllegalArgumentException("Invalid blocking: generations=" + generations + " tile=" + tile);
+        }
+        this.generations = generations;
+        this.tile = tile;
+    }
+
+    // One generation, step() has to stay a single round. No faster than HaloEngine.
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        int cols = rows == 0 ? 0 : gen[0].length;
+        if (current.getRows() != rows || current.getCols() != cols) {
+            current = new ByteGrid(rows, cols);
+            next = new ByteGrid(rows, cols);
+        }
+        current.copyFrom(new IntArrayGrid(gen));
+        int changed = advance(current, next, 1, changes);
+        new IntArrayGrid(newGen).copyFrom(next);
+        return changed;
+    }
+
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (gen instanceof ByteGrid in && newGen instanceof ByteGrid out) {
+            return advance(in, out, 1, changes);
+        }
+        return GenerationEngine.super.step(gen, newGen, changes);
+    }
+
+    // Same as advance(gen, newGen, getGenerations(), changes)
+    public int advance(ByteGrid gen, ByteGrid newGen, ChangeSet changes) {
+        return advance(gen, newGen, generations, changes);
+    }
+
+    // Writes the gen that many rounds after gen into newGen, the same cells as that many step() calls.
+    // Returns how many cells differ between the two and adds them to changes unless it's null, tile by tile.
+    public int advance(ByteGrid gen, ByteGrid newGen, int generations, ChangeSet changes) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("Generations must be at least 1: " + generations);
+        }
+        if (gen == newGen) {
+            throw new IllegalArgumentException("Can't advance a grid in place, tiles read their neighbours' halo");
+        }
+        int rows = gen.getRows();
+        int cols = gen.getCols();
+        if (newGen.getRows() != rows || newGen.getCols() != cols) {
+            throw new IllegalArgumentException("Grid sizes differ: " + rows + "x" + cols + " and "
+                    + newGen.getRows() + "x" + newGen.getCols());
+        }
+        int side = tile + 2 * generations;
+        if (front.length < side * side) {
+            front = new byte[side * side];
+            back = new byte[side * side];
+        }
+        int changed = 0;
+        for (int r0 = 0; r0 < rows; r0 += tile) {
+            for (int c0 = 0; c0 < cols; c0 += tile) {
+                changed += advanceTile(gen.getCells(), newGen.getCells(), rows, cols, r0, c0,
+                        Math.min(tile, rows - r0), Math.min(tile, cols - c0), generations, changes);
+            }
+        }
+        return changed;
+    }
+
+    // Steps the tile at (r0, c0) with its halo in the local buffers, local (0, 0) is cell (r0 - k, c0 - k)
+    private int advanceTile(byte[] source, byte[] target, int rows, int cols, int r0, int c0,
+                            int tileRows, int tileCols, int k, ChangeSet changes) {
+        int height = tileRows + 2 * k;
+        int width = tileCols + 2 * k;
+        // Local rows and columns that are inside the grid, the others stay dead
+        int top = Math.max(0, k - r0);
+        int bottom = Math.min(height, k - r0 + rows);
+        int left = Math.max(0, k - c0);
+        int right = Math.min(width, k - c0 + cols);
+        if (top > 0 || left > 0 || bottom < height || right < width) {
+            Arrays.fill(front, 0, height * width, (byte) 0);
+            Arrays.fill(back, 0, height * width, (byte) 0);
+        }
+        for (int lr = top; lr < bottom; lr++) {
+            System.arraycopy(source, (r0 - k + lr) * cols + c0 - k + left, front, lr * width + left, right - left);
+        }
+
+        byte[] grid = front;
+        byte[] result = back;
+        for (int g = 1; g <= k; g++) {
+            int fromRow = Math.max(g, top);
+            int toRow = Math.min(height - g, bottom);
+            int fromCol = Math.max(g, left);
+            int toCol = Math.min(width - g, right);
+            for (int lr = fromRow; lr < toRow; lr++) {
+                int c = lr * width + fromCol;
+                for (int lc = fromCol; lc < toCol; lc++, c++) {
+                    int neighbours = grid[c - width - 1] + grid[c - width] + grid[c - width + 1]
+                            + grid[c - 1] + grid[c + 1]
+                            + grid[c + width - 1] + grid[c + width] + grid[c + width + 1];
+                    // Same branch-free rule as HaloEngine
+                    result[c] = (byte) ((neighbours | grid[c]) == 3 ? 1 : 0);
+                }
+            }
+            byte[] swap = grid;
+            grid = result;
+            result = swap;
+        }
+
+        int changed = 0;
+        for (int i = 0; i < tileRows; i++) {
+            int from = (i + k) * width + k;
+            int base = (r0 + i) * cols + c0;
+            for (int j = 0; j < tileCols; j++) {
+                byte bacteria = grid[from + j];
+                if (bacteria != source[base + j]) {
+                    changed++;
+                    if (changes != null) changes.add(r0 + i, c0 + j);
+                }
+                target[base + j] = bacteria;
+            }
+        }
+        return changed;
+    }
+
+    public int getGenerations() {
+        return generations;
+    }
+
+    public int getTile() {
+        return tile;
+    }
+
+    @Override
+    public String getName() {
+        return "blocked";
+    }
+}
@@ -0,0 +1,48 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+// What lies past the edges of the grid, written into a one-cell halo around it once per generation
+// so the neighbour loop never checks bounds
+public enum Topology {
+    // Dead cells all around, the original behaviour
+    DEAD,
+    // Left edge touches the right one and top touches bottom
+    TORUS,
+    // Edges reflect the cells next to them, as if the grid was mirrored on every side
+    MIRROR;
+
+    // Topology by name, case insensitive
+    public static Topology parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown topology: " + name, e);
+        }
+    }
+
+    // Fills the halo of a padded grid: (rows + 2) x (cols + 2) cells, the grid itself from row 1, column 1.
+    // Columns first, then the whole top and bottom rows, so the corners come out right.
+    public void fillHalo(byte[] grid, int rows, int cols) {
+        int width = cols + 2;
+        for (int i = 1; i <= rows; i++) {
+            int row = i * width;
+            grid[row] = this == DEAD ? 0 : grid[row + (this == TORUS ? cols : 1)];
+            grid[row + cols + 1] = this == DEAD ? 0 : grid[row + (this == TORUS ? 1 : cols)];
+        }
+        int bottom = (rows + 1) * width;
+        if (this == DEAD) {
+            Arrays.fill(grid, 0, width, (byte) 0);
+            Arrays.fill(grid, bottom, bottom + width, (byte) 0);
+        } else {
+            System.arraycopy(grid, (this == TORUS ? rows : 1) * width, grid, 0, width);
+            System.arraycopy(grid, (this == TORUS ? 1 : rows) * width, grid, bottom, width);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// JFR event around drawing one round on the EDT
+@Name("org.example.UiRefresh")
+@Label("UI Refresh")
+@Category({"BacteriaLife", "UI"})
+@Description("Draws a round from the simulation thread")
+public final class UiRefreshEvent extends SimulationEvent {
+    @Label("Incremental")
+    @Description("Only the changed cells were drawn")
+    boolean incremental;
+}
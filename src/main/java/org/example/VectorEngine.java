@@ -0,0 +1,136 @@
+package org.example;
+
+// Engine that steps a flat byte grid with the JDK Vector API, one lane per cell.
+// The grid has a dead border of one cell so every cell, edges included, has eight neighbours to load.
+// The Vector API is an incubator module: without --add-modules jdk.incubator.vector the same loop
+// runs cell by cell on the same layout. Not thread safe, the flat grids are reused between calls.
+public class VectorEngine implements GenerationEngine {
+    private static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private final boolean vectorized;
+    private byte[] current = new byte[0];
+    private byte[] next = new byte[0];
+
+    // Vector lanes when the module is there, scalar otherwise
+    public VectorEngine() {
+        this(VECTOR_AVAILABLE);
+    }
+
+    // false forces the scalar loop, true fails without the module
+    public VectorEngine(boolean vectorized) {
+        if (vectorized && !VECTOR_AVAILABLE) {
+            throw new IllegalStateException("The Vector API needs --add-modules jdk.incubator.vector");
+        }
+        this.vectorized = vectorized;
+    }
+
+    @Override
+    public int step(int[][] gen, int[][] newGen, ChangeSet changes) {
+        int rows = gen.length;
+        int cols = rows == 0 ? 0 : gen[0].length;
+        int width = cols + 2;
+        resize(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            int[] row = gen[i];
+            int base = (i + 1) * width + 1;
+            for (int j = 0; j < cols; j++) {
+                current[base + j] = (byte) row[j];
+            }
+        }
+
+        int changed = stepPadded(rows, cols, changes);
+
+        for (int i = 0; i < rows; i++) {
+            int[] row = newGen[i];
+            int base = (i + 1) * width + 1;
+            for (int j = 0; j < cols; j++) {
+                row[j] = next[base + j];
+            }
+        }
+        return changed;
+    }
+
+    // A ByteGrid has the padded layout minus the border, so rows are copied in and out whole
+    @Override
+    public int step(Grid gen, Grid newGen, ChangeSet changes) {
+        if (!(gen instanceof ByteGrid in && newGen instanceof ByteGrid out)) {
+            return GenerationEngine.super.step(gen, newGen, changes);
+        }
+        int rows = in.getRows();
+        int cols = in.getCols();
+        int width = cols + 2;
+        resize(rows, cols);
+        byte[] cells = in.getCells();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(cells, i * cols, current, (i + 1) * width + 1, cols);
+        }
+        int changed = stepPadded(rows, cols, changes);
+        byte[] result = out.getCells();
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(next, (i + 1) * width + 1, result, i * cols, cols);
+        }
+        return changed;
+    }
+
+    private void resize(int rows, int cols) {
+        int size = (rows + 2) * (cols + 2);
+        if (current.length != size) {
+            // The border is never written, it stays dead
+            current = new byte[size];
+            next = new byte[size];
+        }
+    }
+
+    private int stepPadded(int rows, int cols, ChangeSet changes) {
+        return vectorized
+                ? VectorKernel.stepRows(current, next, cols, 0, rows, changes)
+                : stepRowsScalar(current, next, cols, 0, rows, changes);
+    }
+
+    // Computes rows [fromRow, toRow) of the padded grid one cell at a time
+    static int stepRowsScalar(byte[] current, byte[] next, int cols, int fromRow, int toRow, ChangeSet changes) {
+        int width = cols + 2;
+        int changed = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            int rowStart = (i + 1) * width + 1;
+            for (int j = 0; j < cols; j++) {
+                if (stepCell(current, next, rowStart + j, width)) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+
+    // Writes the next state of the cell at index c, returns true if it flipped
+    static boolean stepCell(byte[] current, byte[] next, int c, int width) {
+        int neighbours = current[c - width - 1] + current[c - width] + current[c - width + 1]
+                + current[c - 1] + current[c + 1]
+                + current[c + width - 1] + current[c + width] + current[c + width + 1];
+        int bacteria = current[c];
+        int result = ArrayEngine.nextState(bacteria, neighbours);
+        next[c] = (byte) result;
+        return result != bacteria;
+    }
+
+    // True if the jdk.incubator.vector module is in the boot layer
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    public boolean isVectorized() {
+        return vectorized;
+    }
+
+    // Cells per vector, 1 for the scalar loop
+    public int getLanes() {
+        return vectorized ? VectorKernel.lanes() : 1;
+    }
+
+    @Override
+    public String getName() {
+        return "vector";
+    }
+}
@@ -0,0 +1,66 @@
+package org.example;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Vector API half of VectorEngine, only loaded when the jdk.incubator.vector module is there.
+// One lane per cell: the eight neighbours are eight shifted loads of the padded grid added together.
+final class VectorKernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    private VectorKernel() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    // Same as VectorEngine.stepRowsScalar, whole vectors first and the rest of the row cell by cell
+    static int stepRows(byte[] current, byte[] next, int cols, int fromRow, int toRow, ChangeSet changes) {
+        int width = cols + 2;
+        int bound = SPECIES.loopBound(cols);
+        ByteVector zero = ByteVector.zero(SPECIES);
+        int changed = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            int rowStart = (i + 1) * width + 1;
+            int j = 0;
+            for (; j < bound; j += SPECIES.length()) {
+                int c = rowStart + j;
+                ByteVector neighbours = ByteVector.fromArray(SPECIES, current, c - width - 1)
+                        .add(ByteVector.fromArray(SPECIES, current, c - width))
+                        .add(ByteVector.fromArray(SPECIES, current, c - width + 1))
+                        .add(ByteVector.fromArray(SPECIES, current, c - 1))
+                        .add(ByteVector.fromArray(SPECIES, current, c + 1))
+                        .add(ByteVector.fromArray(SPECIES, current, c + width - 1))
+                        .add(ByteVector.fromArray(SPECIES, current, c + width))
+                        .add(ByteVector.fromArray(SPECIES, current, c + width + 1));
+                ByteVector bacteria = ByteVector.fromArray(SPECIES, current, c);
+
+                // Alive with 3 neighbours, or with 2 if it was already alive (ArrayEngine.nextState)
+                VectorMask<Byte> alive = neighbours.compare(VectorOperators.EQ, 3)
+                        .or(neighbours.compare(VectorOperators.EQ, 2).and(bacteria.compare(VectorOperators.EQ, 1)));
+                ByteVector result = zero.blend((byte) 1, alive);
+                result.intoArray(next, c);
+
+                VectorMask<Byte> flipped = result.compare(VectorOperators.NE, bacteria);
+                if (flipped.anyTrue()) {
+                    changed += flipped.trueCount();
+                    if (changes != null) {
+                        for (long bits = flipped.toLong(); bits != 0; bits &= bits - 1) {
+                            changes.add(i, j + Long.numberOfTrailingZeros(bits));
+                        }
+                    }
+                }
+            }
+            for (; j < cols; j++) {
+                if (VectorEngine.stepCell(current, next, rowStart + j, width)) {
+                    changed++;
+                    if (changes != null) changes.add(i, j);
+                }
+            }
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,195 @@
+import org.example.ActiveRegionEngine;
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActiveRegionEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineWithBuffers() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(50);
+        BacteriaLifeLogic activeLogic = new BacteriaLifeLogic(50, new ActiveRegionEngine(8));
+        int[][] gen = randomGen(50, 50, 11);
+        arrayLogic.loadGen(gen);
+        activeLogic.loadGen(gen);
+
+        for (int i = 0; i < 120; i++) {
+            assertEquals(arrayLogic.step(), activeLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), activeLogic.getCurrentGen(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineWithNewArrays() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(45);
+        BacteriaLifeLogic activeLogic = new BacteriaLifeLogic(45, new ActiveRegionEngine(10));
+        int[][] arrayGen = randomGen(45, 45, 12);
+        int[][] activeGen = arrayGen;
+
+        for (int i = 0; i < 80; i++) {
+            arrayGen = arrayLogic.generateNewGen(arrayGen);
+            activeGen = activeLogic.generateNewGen(activeGen);
+            assertArrayEquals(arrayGen, activeGen, "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_StableBlockHasNoActiveTiles() {
+        int[][] gen = new int[64][64];
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        gen[3][2] = 1;
+        gen[3][3] = 1;
+
+        ActiveRegionEngine engine = new ActiveRegionEngine(16);
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(64, engine);
+        testLogic.loadGen(gen);
+
+        testLogic.step();
+        assertEquals(16, engine.getActiveTiles(), "First step should compute every tile");
+        assertEquals(16, engine.getTotalTiles());
+
+        testLogic.step();
+        assertEquals(0, engine.getActiveTiles(), "Stable colony should not compute any tile");
+        assertEquals(1, testLogic.getCurrentGen()[2][2], "Block should remain");
+    }
+
+    @Test
+    void testStep_BlinkerOnlyActivatesNearbyTiles() {
+        int[][] gen = new int[64][64];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+
+        ActiveRegionEngine engine = new ActiveRegionEngine(16);
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(64, engine);
+        testLogic.loadGen(gen);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(4, testLogic.step(), "Blinker should flip 4 cells every round");
+        }
+        assertEquals(4, engine.getActiveTiles(), "Only the corner tile and its neighbours should be computed");
+    }
+
+    @Test
+    void testStep_ByteGridOnlyActivatesNearbyTiles() {
+        int[][] gen = new int[512][512];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        gen[300][300] = 1;
+        gen[300][301] = 1;
+        gen[301][300] = 1;
+        gen[301][301] = 1;
+
+        ActiveRegionEngine engine = new ActiveRegionEngine();
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(512, engine);
+        testLogic.loadGen(ByteGrid.copyOf(gen));
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(512);
+        arrayLogic.loadGen(gen);
+
+        testLogic.step();
+        assertEquals(256, engine.getActiveTiles(), "First step should compute every tile");
+        for (int i = 0; i < 5; i++) {
+            arrayLogic.step();
+            assertEquals(4, testLogic.step(), "Blinker should flip 4 cells every round");
+        }
+        assertEquals(256, engine.getTotalTiles());
+        assertEquals(4, engine.getActiveTiles(), "A ByteGrid should keep the tiles between steps");
+        assertInstanceOf(ByteGrid.class, testLogic.getCurrentGrid());
+        arrayLogic.step();
+        assertArrayEquals(arrayLogic.getCurrentGen(), testLogic.getCurrentGrid().toArray());
+    }
+
+    @Test
+    void testStep_ByteGridMatchesArrayEngine() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(50);
+        BacteriaLifeLogic activeLogic = new BacteriaLifeLogic(50, new ActiveRegionEngine(8));
+        int[][] gen = randomGen(50, 50, 15);
+        arrayLogic.loadGen(gen);
+        activeLogic.loadGen(ByteGrid.copyOf(gen));
+
+        for (int i = 0; i < 120; i++) {
+            assertEquals(arrayLogic.step(), activeLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), activeLogic.getCurrentGrid().toArray(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_UnrelatedGenRecomputesEverything() {
+        ActiveRegionEngine engine = new ActiveRegionEngine(4);
+        int[][] block = new int[8][8];
+        block[1][1] = 1;
+        block[1][2] = 1;
+        block[2][1] = 1;
+        block[2][2] = 1;
+        engine.step(block, new int[8][8]);
+
+        int[][] gen = randomGen(8, 8, 13);
+        int[][] expected = new int[8][8];
+        int[][] actual = new int[8][8];
+        new ArrayEngine().step(gen, expected);
+        engine.step(gen, actual);
+
+        assertEquals(4, engine.getActiveTiles(), "A different gen should recompute every tile");
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void testReset_RecomputesEverything() {
+        ActiveRegionEngine engine = new ActiveRegionEngine(4);
+        int[][] gen = new int[8][8];
+        int[][] newGen = new int[8][8];
+        engine.step(gen, newGen);
+        engine.step(newGen, gen);
+        assertEquals(0, engine.getActiveTiles(), "Empty grid should have no active tiles");
+
+        engine.reset();
+        engine.step(gen, newGen);
+        assertEquals(4, engine.getActiveTiles(), "Reset should recompute every tile");
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(40, new ActiveRegionEngine(8));
+        testLogic.loadGen(randomGen(40, 40, 14));
+
+        for (int i = 0; i < 20; i++) {
+            int[][] before = new int[40][];
+            for (int r = 0; r < 40; r++) {
+                before[r] = testLogic.getCurrentGen()[r].clone();
+            }
+            int changed = testLogic.step();
+            ChangeSet changes = testLogic.getLastChanges();
+
+            assertEquals(changed, changes.size(), "Every change should be recorded");
+            BitBoardEngineTest.assertChangesMatch(before, testLogic.getCurrentGen(), changes);
+        }
+    }
+
+    @Test
+    void testConstructor_Settings() {
+        assertEquals(32, new ActiveRegionEngine().getTileSize());
+        assertEquals("active", new ActiveRegionEngine().getName());
+        assertThrows(IllegalArgumentException.class, () -> new ActiveRegionEngine(0));
+    }
+}
@@ -35,6 +35,18 @@ class BacteriaLifeLogicTest {
         }
     }
 
+    @Test
+    void testGenerateInitialGen_SeededIsReproducible() {
+        int[][] first = logic.generateInitialGen(42, 0.3);
+        int[][] second = new BacteriaLifeLogic(DIMENSION).generateInitialGen(42, 0.3);
+
+        assertArrayEquals(first, second, "The same seed should give the same gen");
+        int[][] empty = logic.generateInitialGen(42, 0);
+        for (int[] row : empty) {
+            assertArrayEquals(new int[DIMENSION], row, "Density 0 should give an empty gen");
+        }
+    }
+
     @Test
     void testGenerateNewGen_Birth() {
         int[][] gen = new int[5][5];
@@ -295,4 +307,96 @@ class BacteriaLifeLogicTest {
         assertArrayEquals(originalCopy, gen,
                 "Original generation should not be modified");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStep_BlinkerCountsChanges() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(5);
+        testLogic.loadGen(gen);
+
+        assertEquals(4, testLogic.step(), "Blinker flips two cells off and two on");
+        assertFalse(testLogic.isStable(), "Blinker should not be stable");
+        assertEquals(1, testLogic.getCurrentGen()[1][2], "Blinker should oscillate to vertical");
+        assertEquals(1, testLogic.getRound(), "Round should increment after a step");
+    }
+
+    @Test
+    void testStep_StableBlock() {
+        int[][] gen = new int[5][5];
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        gen[3][2] = 1;
+        gen[3][3] = 1;
+
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(5);
+        testLogic.loadGen(gen);
+
+        assertEquals(0, testLogic.step(), "Block should not change");
+        assertTrue(testLogic.isStable(), "Block should be stable");
+    }
+
+    @Test
+    void testStep_ReusesBuffers() {
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(5);
+        testLogic.loadGen(testLogic.generateInitialGen());
+
+        testLogic.step();
+        int[][] first = testLogic.getCurrentGen();
+        testLogic.step();
+        int[][] second = testLogic.getCurrentGen();
+        testLogic.step();
+
+        assertNotSame(first, second, "Consecutive gens should live in different buffers");
+        assertSame(first, testLogic.getCurrentGen(), "Buffers should be reused every other step");
+    }
+
+    @Test
+    void testStep_MatchesGenerateNewGen() {
+        BacteriaLifeLogic stepLogic = new BacteriaLifeLogic(DIMENSION);
+        int[][] gen = logic.generateInitialGen();
+        stepLogic.loadGen(gen);
+
+        for (int i = 0; i < 20; i++) {
+            int[][] newGen = logic.generateNewGen(gen);
+            stepLogic.step();
+            assertArrayEquals(newGen, stepLogic.getCurrentGen(), "Both modes should give the same gen");
+            gen = newGen;
+        }
+    }
+
+    @Test
+    void testLoadGen_DoesNotModifyOriginal() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(5);
+        testLogic.loadGen(gen);
+        testLogic.step();
+
+        assertEquals(1, gen[2][1], "Original generation should not be modified");
+        assertEquals(0, gen[1][2], "Original generation should not be modified");
+    }
+
+    @Test
+    void testStep_StopsAfterMaxRounds() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(5);
+        testLogic.loadGen(gen);
+        int changes = -1;
+        for (int i = 0; i < 301; i++) {
+            changes = testLogic.step();
+        }
+
+        assertEquals(0, changes, "Steps past the max rounds should report no changes");
+    }
+}
@@ -1,5 +1,12 @@
 import org.example.BacteriaLifeLogic;
 import org.example.BacteriaLifeUI;
+import org.example.ChangeSet;
+import org.example.CycleStatus;
+import org.example.GenSnapshot;
+import org.example.GenCanvas;
+import org.example.IntArrayGrid;
+import org.example.RenderMode;
+import org.example.SimulationMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,6 +15,10 @@ import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.swing.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -395,4 +406,209 @@ class BacteriaLifeUITest {
                     "Should iterate through all columns without exception");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCanvasMode_Construction() {
+        when(mockLogic.generateInitialGen()).thenReturn(createGenWithPattern());
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic, RenderMode.CANVAS);
+            assertEquals(RenderMode.CANVAS, ui.getRenderMode());
+            assertDoesNotThrow(ui::refreshGenPanel, "Canvas refresh should not throw");
+        }
+    }
+
+    @Test
+    void testGenerateCanvas_MatchesGen() {
+        when(mockLogic.generateInitialGen()).thenReturn(createGenWithPattern());
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            GenCanvas canvas = ui.generateCanvas();
+
+            assertEquals(java.awt.Color.BLACK.getRGB(), canvas.getPixel(5, 5), "Live cell should be drawn");
+            assertEquals(java.awt.Color.WHITE.getRGB(), canvas.getPixel(13 + 5, 5), "Dead cell should be drawn");
+        }
+    }
+
+    @Test
+    void testRefreshCells_OnlyRecoloursChangedCells() {
+        int[][] gen = createGenWithPattern();
+        when(mockLogic.generateInitialGen()).thenReturn(gen);
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            var untouched = ui.getCircle(5, 5);
+
+            // The UI shares the gen array, flip two cells in it
+            gen[0][0] = 0;
+            gen[4][4] = 1;
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(0, 0);
+            changes.add(4, 4);
+            ui.refreshCells(changes);
+
+            assertEquals(java.awt.Color.WHITE, ui.getCircle(0, 0).getColor(), "Dead cell should be white");
+            assertEquals(java.awt.Color.BLACK, ui.getCircle(4, 4).getColor(), "Born cell should be black");
+            assertEquals(java.awt.Color.BLACK, ui.getCircle(1, 1).getColor(), "Unchanged cell should keep its color");
+            assertSame(untouched, ui.getCircle(5, 5), "Cells should not be rebuilt");
+        }
+    }
+
+    @Test
+    void testRefreshGenPanel_KeepsCellViews() {
+        int[][] gen = createGenWithPattern();
+        when(mockLogic.generateInitialGen()).thenReturn(gen);
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            var before = ui.getCircle(0, 0);
+
+            gen[0][0] = 0;
+            ui.refreshGenPanel();
+
+            assertSame(before, ui.getCircle(0, 0), "Refresh should reuse the cell views");
+            assertEquals(java.awt.Color.WHITE, before.getColor(), "Refresh should recolour the cell");
+        }
+    }
+
+    @Test
+    void testRefreshCells_CanvasMode() {
+        int[][] gen = createGenWithPattern();
+        when(mockLogic.generateInitialGen()).thenReturn(gen);
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic, RenderMode.CANVAS);
+            gen[3][3] = 1;
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(3, 3);
+
+            assertDoesNotThrow(() -> ui.refreshCells(changes), "Canvas should draw only the changes");
+            assertNull(ui.getCircle(0, 0), "Canvas mode has no cell views");
+        }
+    }
+
+    @Test
+    void testShowSnapshot_NextRoundAndCycle() {
+        when(mockLogic.generateInitialGen()).thenReturn(createEmptyGen());
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            JLabel label = new JLabel();
+
+            int[][] gen = createEmptyGen();
+            gen[1][1] = 1;
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(1, 1);
+            boolean over = ui.showSnapshot(new GenSnapshot(1, gen, changes, CycleStatus.EVOLVING, false), label);
+
+            assertFalse(over, "Run should go on");
+            assertEquals("Round: 1", label.getText());
+            assertEquals(java.awt.Color.BLACK, ui.getCircle(1, 1).getColor(), "Changed cell should be drawn");
+
+            over = ui.showSnapshot(new GenSnapshot(5, gen, changes, CycleStatus.repeating(2, 3), true), label);
+
+            assertTrue(over, "Finished snapshot should end the run");
+            assertEquals("Round: 5 - periodic (period 2, since round 3)", label.getText());
+        }
+    }
+
+    @Test
+    void testShowSnapshot_ShowsPopulation() {
+        int[][] initial = createEmptyGen();
+        initial[0][0] = 1;
+        initial[0][1] = 1;
+        when(mockLogic.generateInitialGen()).thenReturn(initial);
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            assertEquals("Population: 2", ui.getPopulationLabel().getText(), "Initial gen should be counted");
+
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(1, 1);
+            ui.showSnapshot(new GenSnapshot(1, new IntArrayGrid(createEmptyGen()), changes, CycleStatus.EVOLVING,
+                    false, 42), new JLabel());
+
+            assertEquals("Population: 42", ui.getPopulationLabel().getText(), "Snapshot population should be shown");
+        }
+    }
+
+    @Test
+    void testShowSnapshot_StableEndsRun() {
+        when(mockLogic.generateInitialGen()).thenReturn(createEmptyGen());
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            JLabel label = new JLabel("Round: 0");
+            ChangeSet none = new ChangeSet();
+            none.clear(DIMENSION);
+
+            assertTrue(ui.showSnapshot(new GenSnapshot(1, createEmptyGen(), none, CycleStatus.repeating(1, 0), true), label));
+            assertEquals("Round: 0", label.getText(), "Stable round should not be shown");
+
+            // Rounds 2 to 4 were dropped: the gen on screen is stale even though round 5 changed nothing
+            int[][] last = createEmptyGen();
+            last[3][3] = 1;
+            assertTrue(ui.showSnapshot(new GenSnapshot(5, new IntArrayGrid(last), none, CycleStatus.repeating(1, 4),
+                    true, 1), label));
+            assertEquals("Round: 5 - " + CycleStatus.repeating(1, 4), label.getText(), "Skipped rounds should be shown");
+            assertEquals("Population: 1", ui.getPopulationLabel().getText());
+            assertEquals(java.awt.Color.BLACK, ui.getCircle(3, 3).getColor(), "Skipped rounds should be redrawn");
+        }
+    }
+
+    @Test
+    void testShowSnapshot_RecordsFrameTime() {
+        SimulationMetrics metrics = new SimulationMetrics();
+        when(mockLogic.getMetrics()).thenReturn(metrics);
+
+        try (var ignored = mockConstruction(JFrame.class)) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            int[][] gen = createEmptyGen();
+            gen[2][2] = 1;
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(2, 2);
+
+            ui.showSnapshot(new GenSnapshot(1, gen, changes, CycleStatus.EVOLVING, false), new JLabel());
+
+            assertEquals(1, metrics.getFrames(), "Drawn round should be counted as a frame");
+            assertTrue(metrics.getLastFrameNanos() > 0);
+        }
+    }
+
+    @Test
+    void testShowSnapshot_EmitsUiRefreshEvent() throws Exception {
+        Path file = Files.createTempFile("ui", ".jfr");
+        try (var ignored = mockConstruction(JFrame.class);
+             Recording recording = new Recording()) {
+            BacteriaLifeUI ui = new BacteriaLifeUI(mockLogic);
+            ChangeSet changes = new ChangeSet();
+            changes.clear(DIMENSION);
+            changes.add(0, 0);
+            int[][] gen = createEmptyGen();
+            gen[0][0] = 1;
+
+            recording.enable("org.example.UiRefresh").withoutThreshold();
+            recording.start();
+            ui.showSnapshot(new GenSnapshot(1, gen, changes, CycleStatus.EVOLVING, false), new JLabel());
+            ui.showSnapshot(new GenSnapshot(4, gen, changes, CycleStatus.EVOLVING, false), new JLabel());
+            recording.stop();
+            recording.dump(file);
+
+            var events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("org.example.UiRefresh")).toList();
+            assertEquals(2, events.size());
+            assertTrue(events.get(0).getBoolean("incremental"), "Next round should only draw the changes");
+            assertFalse(events.get(1).getBoolean("incremental"), "Skipped rounds should redraw everything");
+            assertEquals(1, events.get(0).getInt("changedCells"));
+            assertEquals(DIMENSION, events.get(0).getInt("rows"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import org.example.BatchRunner;
+import org.example.CycleStatus;
+import org.example.GenerationEngine;
+import org.example.RunResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerTest {
+
+    @Test
+    void testParse_AllOptions() {
+        BatchRunner.Config config = BatchRunner.Config.parse(new String[]{
+                "--size", "64", "--seed", "7", "--density", "0.25", "--engine", "bitboard", "--rounds", "1000"});
+
+        assertEquals(64, config.size());
+        assertEquals(7, config.seed());
+        assertEquals(0.25, config.density());
+        assertEquals("bitboard", config.engine());
+        assertEquals(1000, config.maxRounds());
+        assertEquals("size=64 seed=7 density=0.25 engine=bitboard", config.format());
+    }
+
+    @Test
+    void testParse_Defaults() {
+        BatchRunner.Config config = BatchRunner.Config.parse(new String[0]);
+
+        assertEquals(30, config.size());
+        assertEquals(0.5, config.density());
+        assertEquals("array", config.engine());
+        assertEquals(300, config.maxRounds());
+    }
+
+    @Test
+    void testParse_InvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.Config.parse(new String[]{"--size"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.Config.parse(new String[]{"--colour", "red"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.Config.parse(new String[]{"--density", "2"}));
+        assertThrows(NumberFormatException.class, () -> BatchRunner.Config.parse(new String[]{"--size", "big"}));
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.Config.parse(new String[]{"--engine", "bogus"}),
+                "Unknown engines should be caught with the other options");
+        assertEquals("halo:torus", BatchRunner.Config.parse(new String[]{"--engine", "halo:torus"}).engine());
+    }
+
+    @Test
+    void testRun_SameSeedSameResult() {
+        BatchRunner.Config config = new BatchRunner.Config(40, 99, 0.4, "array", 2000);
+
+        RunResult first = BatchRunner.run(config);
+        RunResult second = BatchRunner.run(config);
+
+        assertEquals(first.rounds(), second.rounds(), "Same seed should take the same rounds");
+        assertEquals(first.population(), second.population(), "Same seed should end with the same population");
+        assertEquals(first.status(), second.status());
+    }
+
+    @Test
+    void testRun_EnginesAgree() {
+        RunResult array = BatchRunner.run(new BatchRunner.Config(50, 5, 0.35, "array", 500));
+        RunResult bitboard = BatchRunner.run(new BatchRunner.Config(50, 5, 0.35, "bitboard", 500));
+        RunResult active = BatchRunner.run(new BatchRunner.Config(50, 5, 0.35, "active", 500));
+
+        assertEquals(array.rounds(), bitboard.rounds());
+        assertEquals(array.population(), bitboard.population());
+        assertEquals(array.rounds(), active.rounds());
+        assertEquals(array.population(), active.population());
+    }
+
+    @Test
+    void testRun_ShutsDownParallelEngines() throws InterruptedException {
+        long before = parallelWorkers();
+        for (int i = 0; i < 5; i++) {
+            BatchRunner.run(new BatchRunner.Config(80, i, 0.4, "parallel", 20));
+        }
+        // Shut down pools let their workers go on their own, give them a moment
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (parallelWorkers() > before && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(parallelWorkers() <= before, "Every run should close its engine's pool");
+    }
+
+    // Live workers of pools other than the common one
+    private static long parallelWorkers() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().matches("ForkJoinPool-\\d+-worker-\\d+"))
+                .count();
+    }
+
+    @Test
+    void testRun_StopsAtRoundLimit() {
+        RunResult result = BatchRunner.run(new BatchRunner.Config(60, 3, 0.5, "array", 5));
+
+        assertEquals(5, result.rounds(), "Run should stop at the limit");
+        assertEquals(CycleStatus.State.EVOLVING, result.status().state());
+    }
+
+    @Test
+    void testRun_EmptyGridIsStable() {
+        RunResult result = BatchRunner.run(new BatchRunner.Config(10, 1, 0, "array", 100));
+
+        assertEquals(1, result.rounds());
+        assertEquals(0, result.population());
+        assertEquals(CycleStatus.State.STABLE, result.status().state());
+        assertTrue(result.format().startsWith("rounds=1 population=0 status=stable period=1 since=0 wallMs="));
+    }
+
+    @Test
+    void testForName_KnownAndUnknownNames() {
+        assertEquals("parallel", GenerationEngine.forName("parallel").getName());
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.forName("quantum"));
+        for (String name : GenerationEngine.names()) {
+            assertDoesNotThrow(() -> GenerationEngine.checkName(name), name);
+            GenerationEngine engine = GenerationEngine.forName(name);
+            assertTrue(engine.getName().startsWith(name), name);
+            if (engine instanceof AutoCloseable closeable) {
+                assertDoesNotThrow(closeable::close);
+            }
+        }
+        assertDoesNotThrow(() -> GenerationEngine.checkName("lut:B36/S23"));
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.checkName("quantum"));
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.checkName("halo:sphere"));
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.checkName("lut:B3"));
+    }
+}
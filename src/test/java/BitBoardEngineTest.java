@@ -0,0 +1,199 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.BitBoardEngine;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    // Every cell in changes must differ between gen and newGen, and nothing else
+    static void assertChangesMatch(int[][] gen, int[][] newGen, ChangeSet changes) {
+        boolean[][] flipped = new boolean[gen.length][gen[0].length];
+        for (int k = 0; k < changes.size(); k++) {
+            assertFalse(flipped[changes.getRow(k)][changes.getCol(k)], "Cells should be recorded once");
+            flipped[changes.getRow(k)][changes.getCol(k)] = true;
+        }
+        for (int i = 0; i < gen.length; i++) {
+            for (int j = 0; j < gen[0].length; j++) {
+                assertEquals(gen[i][j] != newGen[i][j], flipped[i][j], "Change set mismatch at " + i + "," + j);
+            }
+        }
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        int[][] gen = randomGen(70, 130, 8);
+        int[][] newGen = new int[70][130];
+        ChangeSet changes = new ChangeSet();
+        changes.clear(130);
+
+        int changed = new BitBoardEngine().step(gen, newGen, changes);
+
+        assertEquals(changed, changes.size(), "Every change should be recorded");
+        assertChangesMatch(gen, newGen, changes);
+    }
+
+    @Test
+    void testWordsPerRow() {
+        assertEquals(1, BitBoardEngine.wordsPerRow(1));
+        assertEquals(1, BitBoardEngine.wordsPerRow(64));
+        assertEquals(2, BitBoardEngine.wordsPerRow(65));
+    }
+
+    @Test
+    void testPackUnpack_RoundTrip() {
+        int[][] gen = randomGen(7, 130, 1);
+        long[] board = BitBoardEngine.pack(gen);
+        int[][] copy = new int[7][130];
+        BitBoardEngine.unpack(board, copy);
+
+        assertEquals(7 * 3, board.length, "Each row should use three words");
+        assertArrayEquals(gen, copy, "Unpacked gen should match the original");
+    }
+
+    @Test
+    void testStep_MatchesArrayEngine() {
+        int[] sizes = {1, 2, 5, 30, 63, 64, 65, 129};
+        for (int size : sizes) {
+            int[][] gen = randomGen(size, size, size);
+            int[][] expected = new int[size][size];
+            int[][] actual = new int[size][size];
+
+            new ArrayEngine().step(gen, expected);
+            new BitBoardEngine().step(gen, actual);
+
+            assertArrayEquals(expected, actual, "Bitboard result should match for size " + size);
+        }
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineOverManyRounds() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(70);
+        BacteriaLifeLogic bitLogic = new BacteriaLifeLogic(70, new BitBoardEngine());
+        int[][] arrayGen = randomGen(70, 70, 42);
+        int[][] bitGen = arrayGen;
+
+        for (int i = 0; i < 50; i++) {
+            arrayGen = arrayLogic.generateNewGen(arrayGen);
+            bitGen = bitLogic.generateNewGen(bitGen);
+            assertArrayEquals(arrayGen, bitGen, "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_PingPongMatchesArrayEngineOnEveryBackend() {
+        int[][] gen = randomGen(70, 70, 43);
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(70);
+        BacteriaLifeLogic intLogic = new BacteriaLifeLogic(70, new BitBoardEngine());
+        BacteriaLifeLogic byteLogic = new BacteriaLifeLogic(70, new BitBoardEngine());
+        arrayLogic.loadGen(gen);
+        intLogic.loadGen(gen);
+        byteLogic.loadGen(ByteGrid.copyOf(gen));
+
+        for (int i = 0; i < 120; i++) {
+            int changed = arrayLogic.step();
+            assertEquals(changed, intLogic.step(), "Changes should match at round " + (i + 1));
+            assertEquals(changed, byteLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), intLogic.getCurrentGen(), "Round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), byteLogic.getCurrentGrid().toArray(), "Round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testReset_PacksTheGenAgain() {
+        BitBoardEngine engine = new BitBoardEngine();
+        int[][] gen = new int[8][8];
+        int[][] newGen = new int[8][8];
+        engine.step(gen, newGen);
+
+        // The board is kept between steps, an edit by hand is only seen after reset()
+        newGen[3][2] = 1;
+        newGen[3][3] = 1;
+        newGen[3][4] = 1;
+        engine.step(newGen, gen);
+        assertEquals(0, gen[2][3], "Continuing steps should not pack gen again");
+
+        engine.reset();
+        engine.step(newGen, gen);
+        assertEquals(1, gen[2][3], "Reset should pack gen again");
+        assertEquals(1, gen[4][3]);
+    }
+
+    @Test
+    void testStep_Blinker() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        int[][] newGen = new int[5][5];
+
+        new BitBoardEngine().step(gen, newGen);
+
+        assertEquals(1, newGen[1][2], "Blinker should oscillate to vertical");
+        assertEquals(1, newGen[2][2], "Center should remain");
+        assertEquals(1, newGen[3][2], "Blinker should oscillate to vertical");
+        assertEquals(0, newGen[2][1], "Horizontal arm should die");
+    }
+
+    @Test
+    void testStep_WordBoundaryNeighbours() {
+        // Vertical blinker across the boundary between word 0 and word 1
+        int[][] gen = new int[3][70];
+        gen[1][63] = 1;
+        gen[1][64] = 1;
+        gen[1][65] = 1;
+        int[][] newGen = new int[3][70];
+
+        new BitBoardEngine().step(gen, newGen);
+
+        assertEquals(1, newGen[0][64], "Birth above the word boundary");
+        assertEquals(1, newGen[1][64], "Center should remain");
+        assertEquals(1, newGen[2][64], "Birth below the word boundary");
+        assertEquals(0, newGen[1][63], "Left arm should die");
+        assertEquals(0, newGen[1][65], "Right arm should die");
+    }
+
+    @Test
+    void testStep_CountsChanges() {
+        int[] sizes = {5, 64, 100};
+        for (int size : sizes) {
+            int[][] gen = randomGen(size, size, 7);
+            int[][] expected = new int[size][size];
+            int[][] actual = new int[size][size];
+
+            int arrayChanges = new ArrayEngine().step(gen, expected);
+            int bitChanges = new BitBoardEngine().step(gen, actual);
+
+            int diff = 0;
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    if (gen[i][j] != expected[i][j]) diff++;
+                }
+            }
+            assertEquals(diff, arrayChanges, "Array engine should count the changed cells");
+            assertEquals(diff, bitChanges, "Bitboard engine should count the changed cells");
+        }
+    }
+
+    @Test
+    void testGetName() {
+        assertEquals("bitboard", new BitBoardEngine().getName());
+        assertEquals("array", new ArrayEngine().getName());
+    }
+}
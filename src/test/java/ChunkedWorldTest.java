@@ -0,0 +1,112 @@
+import org.example.ArrayEngine;
+import org.example.ChunkedWorld;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedWorldTest {
+
+    // Random soup in the middle of an empty grid, far enough from the edges
+    private static int[][] soup(int size, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[size][size];
+        for (int i = size / 2 - 12; i < size / 2 + 12; i++) {
+            for (int j = size / 2 - 12; j < size / 2 + 12; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineAwayFromTheEdges() {
+        int[][] gen = soup(200, 3);
+        ChunkedWorld world = new ChunkedWorld();
+        world.loadGen(gen);
+        ArrayEngine engine = new ArrayEngine();
+
+        for (int round = 1; round <= 60; round++) {
+            int[][] newGen = new int[200][200];
+            int expected = engine.step(gen, newGen);
+            gen = newGen;
+            assertEquals(expected, world.step(), "Changes should match at round " + round);
+            assertArrayEquals(gen, world.toArray(0, 0, 200, 200), "Gens should match at round " + round);
+        }
+        assertEquals(60, world.getGeneration());
+    }
+
+    @Test
+    void testStep_GliderTravelsWithoutEdges() {
+        ChunkedWorld world = new ChunkedWorld();
+        world.setCell(0, 1, 1);
+        world.setCell(1, 2, 1);
+        world.setCell(2, 0, 1);
+        world.setCell(2, 1, 1);
+        world.setCell(2, 2, 1);
+
+        for (int i = 0; i < 1000; i++) {
+            world.step();
+        }
+
+        assertEquals(5, world.getPopulation(), "Glider should survive");
+        assertArrayEquals(new long[]{250, 250, 252, 252}, world.getBounds(), "Glider should move 250 cells");
+        assertTrue(world.getChunkCount() <= 4, "Only the chunks around the glider should be kept");
+    }
+
+    @Test
+    void testStep_NegativeCoordinates() {
+        ChunkedWorld world = new ChunkedWorld();
+        // Glider going up and left
+        world.setCell(0, 0, 1);
+        world.setCell(0, 1, 1);
+        world.setCell(0, 2, 1);
+        world.setCell(1, 0, 1);
+        world.setCell(2, 1, 1);
+
+        for (int i = 0; i < 400; i++) {
+            world.step();
+        }
+
+        assertEquals(5, world.getPopulation());
+        long[] bounds = world.getBounds();
+        assertEquals(-100, bounds[0], "Glider should cross into negative rows");
+        assertEquals(-100, bounds[1], "Glider should cross into negative columns");
+    }
+
+    @Test
+    void testStep_ChunksAreCreatedAndFreed() {
+        ChunkedWorld world = new ChunkedWorld();
+        // Blinker on the border between two chunks
+        world.setCell(10, 63, 1);
+        world.setCell(10, 64, 1);
+        world.setCell(10, 65, 1);
+        assertEquals(2, world.getChunkCount());
+
+        // Vertical blinker crossing the border between chunk rows
+        world.loadGen(new int[0][0]);
+        world.setCell(63, 5, 1);
+        world.setCell(63, 6, 1);
+        world.setCell(63, 7, 1);
+        assertEquals(1, world.getChunkCount());
+        world.step();
+        assertEquals(1, world.getCell(64, 6), "Birth should happen in the chunk below");
+        assertEquals(2, world.getChunkCount(), "The chunk below should be allocated");
+
+        // Lonely cells die and their chunks go away
+        world.setCell(500, 500, 1);
+        world.setCell(-500, -500, 1);
+        assertEquals(4, world.getChunkCount());
+        world.step();
+        assertEquals(1, world.getChunkCount(), "Empty chunks should be freed, the blinker is back in one chunk");
+    }
+
+    @Test
+    void testGetBounds_EmptyWorld() {
+        ChunkedWorld world = new ChunkedWorld();
+        assertNull(world.getBounds());
+        assertEquals(0, world.step());
+        assertEquals(0, world.getChunkCount());
+    }
+}
@@ -0,0 +1,160 @@
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.CycleDetector;
+import org.example.CycleStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CycleDetectorTest {
+
+    private static int[][] blinker() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        return gen;
+    }
+
+    private static int[][] glider(int size) {
+        int[][] gen = new int[size][size];
+        gen[0][1] = 1;
+        gen[1][2] = 1;
+        gen[2][0] = 1;
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        return gen;
+    }
+
+    @Test
+    void testUpdate_DetectsStableGen() {
+        CycleDetector detector = new CycleDetector(10);
+        detector.reset(new int[5][5], 0);
+        ChangeSet none = new ChangeSet();
+        none.clear(5);
+
+        CycleStatus status = detector.update(none);
+
+        assertEquals(CycleStatus.State.STABLE, status.state(), "No flips means a stable gen");
+        assertEquals(1, status.period());
+        assertEquals(0, status.since());
+    }
+
+    @Test
+    void testUpdate_DetectsPeriodTwo() {
+        CycleDetector detector = new CycleDetector(10);
+        detector.reset(blinker(), 0);
+        ChangeSet flips = new ChangeSet();
+        flips.clear(5);
+        flips.add(2, 1);
+        flips.add(2, 3);
+        flips.add(1, 2);
+        flips.add(3, 2);
+
+        assertFalse(detector.update(flips).isFinished(), "One round is not a cycle yet");
+        CycleStatus status = detector.update(flips);
+
+        assertEquals(CycleStatus.State.PERIODIC, status.state());
+        assertEquals(2, status.period());
+        assertEquals(0, status.since());
+        assertEquals("periodic (period 2, since round 0)", status.toString());
+    }
+
+    @Test
+    void testUpdate_HashOnlyDependsOnLiveCells() {
+        CycleDetector first = new CycleDetector(5);
+        CycleDetector second = new CycleDetector(5);
+        first.reset(blinker(), 0);
+        second.reset(new int[5][5], 0);
+
+        ChangeSet births = new ChangeSet();
+        births.clear(5);
+        births.add(2, 1);
+        births.add(2, 2);
+        births.add(2, 3);
+        second.update(births);
+
+        assertEquals(first.getHash(), second.getHash(), "Same gen should have the same hash");
+    }
+
+    @Test
+    void testLogic_BlinkerIsPeriodic() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        logic.loadGen(blinker());
+
+        logic.step();
+        assertEquals(CycleStatus.EVOLVING, logic.getStatus());
+        logic.step();
+
+        assertEquals(CycleStatus.State.PERIODIC, logic.getStatus().state());
+        assertEquals(2, logic.getStatus().period());
+    }
+
+    @Test
+    void testLogic_GliderDiesInCornerThenStable() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(8);
+        logic.loadGen(glider(8));
+
+        int rounds = 0;
+        while (!logic.getStatus().isFinished() && rounds < 100) {
+            logic.step();
+            rounds++;
+        }
+
+        // The glider turns into a block in the bottom-right corner
+        assertEquals(CycleStatus.State.STABLE, logic.getStatus().state());
+        assertEquals(rounds - 1, logic.getStatus().since(), "Stable from the round before the last step");
+    }
+
+    @Test
+    void testLogic_PeriodAboveLimitIsNotReported() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        logic.setMaxPeriod(1);
+        logic.loadGen(blinker());
+
+        for (int i = 0; i < 10; i++) {
+            logic.step();
+        }
+
+        assertEquals("still evolving", logic.getStatus().toString(), "Period 2 should not fit in a limit of 1");
+    }
+
+    @Test
+    void testUpdate_LongPeriodAfterManyForgottenRounds() {
+        CycleDetector detector = new CycleDetector(100);
+        detector.reset(new int[40][40], 0);
+        ChangeSet flips = new ChangeSet();
+
+        // 500 different gens, most of them pushed out of the history again
+        for (int round = 1; round <= 500; round++) {
+            flips.clear(40);
+            flips.add(round / 40, round % 40);
+            assertFalse(detector.update(flips).isFinished(), "Round " + round + " is new");
+        }
+        // The same 37 cells flipped in turn come back after 74 rounds
+        for (int round = 501; round < 574; round++) {
+            flips.clear(40);
+            flips.add(39, (round - 501) % 37);
+            assertFalse(detector.update(flips).isFinished(), "Round " + round + " is new");
+        }
+        flips.clear(40);
+        flips.add(39, 73 % 37);
+        CycleStatus status = detector.update(flips);
+
+        assertEquals(CycleStatus.State.PERIODIC, status.state());
+        assertEquals(74, status.period());
+        assertEquals(500, status.since());
+    }
+
+    @Test
+    void testConstructor_InvalidPeriod() {
+        assertThrows(IllegalArgumentException.class, () -> new CycleDetector(0));
+    }
+
+    @Test
+    void testStatus_Strings() {
+        assertEquals("stable since round 4", CycleStatus.repeating(1, 4).toString());
+        assertFalse(CycleStatus.EVOLVING.isFinished());
+        assertTrue(CycleStatus.repeating(3, 0).isFinished());
+    }
+}
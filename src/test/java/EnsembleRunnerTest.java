@@ -0,0 +1,160 @@
+import org.example.EnsembleRunner;
+import org.example.EnsembleStats;
+import org.example.Histogram;
+import org.example.SummaryStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnsembleRunnerTest {
+
+    @Test
+    void testSummaryStats_MergeMatchesSingleStream() {
+        SummaryStats all = new SummaryStats();
+        SummaryStats left = new SummaryStats();
+        SummaryStats right = new SummaryStats();
+        for (int i = 0; i < 100; i++) {
+            double value = (i * 37) % 101;
+            all.add(value);
+            (i < 30 ? left : right).add(value);
+        }
+        left.merge(right);
+
+        assertEquals(all.getCount(), left.getCount());
+        assertEquals(all.getMean(), left.getMean(), 1e-9);
+        assertEquals(all.getVariance(), left.getVariance(), 1e-9);
+        assertEquals(all.getMin(), left.getMin());
+        assertEquals(all.getMax(), left.getMax());
+    }
+
+    @Test
+    void testSummaryStats_KnownValues() {
+        SummaryStats stats = new SummaryStats();
+        for (double value : new double[]{2, 4, 4, 4, 5, 5, 7, 9}) {
+            stats.add(value);
+        }
+        assertEquals(5, stats.getMean(), 1e-12);
+        assertEquals(32.0 / 7, stats.getVariance(), 1e-12);
+        assertEquals(2, stats.getMin());
+        assertEquals(9, stats.getMax());
+
+        stats.merge(new SummaryStats());
+        assertEquals(8, stats.getCount(), "Merging an empty result should change nothing");
+    }
+
+    @Test
+    void testHistogram_BinsAndQuantiles() {
+        Histogram histogram = new Histogram(0, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            histogram.add(i);
+        }
+        histogram.add(-5);
+        histogram.add(50);
+
+        assertEquals(2, histogram.getCount(0), "Values below the range go to the first bin");
+        assertEquals(2, histogram.getCount(9), "Values above the range go to the last bin");
+        assertEquals(12, histogram.getTotal());
+        assertEquals(0, histogram.quantile(0));
+        assertEquals(4, histogram.quantile(0.5));
+        assertEquals(9, histogram.quantile(1));
+
+        Histogram other = new Histogram(0, 10, 10);
+        other.add(3);
+        histogram.merge(other);
+        assertEquals(2, histogram.getCount(3));
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(new Histogram(0, 10, 5)));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram(1, 1, 10));
+    }
+
+    @Test
+    void testRun_SameResultWhateverTheThreads() throws InterruptedException {
+        EnsembleStats single;
+        EnsembleStats parallel;
+        try (EnsembleRunner runner = new EnsembleRunner(1)) {
+            single = runner.run(20, 0.4, 40, 99, "bitboard", 200);
+        }
+        try (EnsembleRunner runner = new EnsembleRunner(4)) {
+            parallel = runner.run(20, 0.4, 40, 99, "bitboard", 200);
+        }
+
+        assertEquals(40, single.getRuns());
+        assertEquals(40, parallel.getRuns());
+        assertEquals(single.getSurvivalRate(), parallel.getSurvivalRate());
+        assertEquals(single.getSettledRate(), parallel.getSettledRate());
+        assertEquals(single.getRounds().getMean(), parallel.getRounds().getMean(), 1e-9);
+        assertEquals(single.getPopulation().getMax(), parallel.getPopulation().getMax());
+        for (int b = 0; b < single.getRoundsHistogram().getBins(); b++) {
+            assertEquals(single.getRoundsHistogram().getCount(b), parallel.getRoundsHistogram().getCount(b));
+        }
+    }
+
+    @Test
+    void testSweep_SurvivalByDensity() throws InterruptedException {
+        Map<Double, EnsembleStats> results;
+        try (EnsembleRunner runner = new EnsembleRunner(2)) {
+            results = runner.sweep(16, new double[]{0.0, 0.3}, 10, 5, "array", 100);
+        }
+
+        assertEquals(2, results.size());
+        EnsembleStats empty = results.get(0.0);
+        assertEquals(0, empty.getSurvivalRate(), "An empty grid never survives");
+        assertEquals(1, empty.getSettledRate(), "An empty grid is stable at once");
+        assertEquals(1, empty.getRounds().getMax());
+        assertEquals(10, results.get(0.3).getPopulationHistogram().getTotal());
+        assertTrue(results.get(0.3).format().startsWith("runs=10 survival="));
+    }
+
+    @Test
+    void testConstructor_InvalidThreads() {
+        assertThrows(IllegalArgumentException.class, () -> new EnsembleRunner(0));
+    }
+
+    @Test
+    void testOptions_ParseSharesBatchRunnerOptions() {
+        EnsembleRunner.Options options = EnsembleRunner.Options.parse(new String[]{
+                "--size", "64", "--runs", "20", "--threads", "3", "--seed", "7", "--density", "0.1, 0.3",
+                "--engine", "halo:torus", "--rounds", "50"});
+        assertEquals(64, options.run().size());
+        assertEquals(7, options.run().seed());
+        assertEquals("halo:torus", options.run().engine());
+        assertEquals(50, options.run().maxRounds());
+        assertArrayEquals(new double[]{0.1, 0.3}, options.densities());
+        assertEquals(20, options.runs());
+        assertEquals(3, options.threads());
+
+        EnsembleRunner.Options defaults = EnsembleRunner.Options.parse(new String[0]);
+        assertArrayEquals(new double[]{defaults.run().density()}, defaults.densities());
+        assertEquals(100, defaults.runs());
+    }
+
+    @Test
+    void testOptions_ParseRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--engine", "bogus"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--density", "0.2,1.5"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--runs", "0"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--threads"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--density", "0.2,x"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> EnsembleRunner.Options.parse(new String[]{"--engine", "parallel", "--threads", "4"}));
+        assertEquals(1, EnsembleRunner.Options.parse(new String[]{"--engine", "parallel", "--threads", "1"}).threads());
+    }
+
+    @Test
+    void testRun_ReusesOneEnginePerWorker() throws InterruptedException {
+        // Stateful engines see a new logic every run, results must not depend on the run before
+        try (EnsembleRunner reused = new EnsembleRunner(2)) {
+            String expected = reused.run(24, 0.3, 12, 5, "array", 200).format();
+            for (String engine : new String[]{"active", "incremental", "halo"}) {
+                assertEquals(expected, reused.run(24, 0.3, 12, 5, engine, 200).format(), engine);
+            }
+            assertThrows(IllegalArgumentException.class, () -> reused.run(24, 0.3, 4, 5, "parallel", 200));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import org.example.ChangeSet;
+import org.example.GenCanvas;
+import org.example.RenderMode;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenCanvasTest {
+
+    private static final int BG = new Color(141, 69, 220).getRGB();
+
+    @Test
+    void testPitch_SmallGridKeepsCircleSize() {
+        GenCanvas canvas = new GenCanvas(30, 30);
+        assertEquals(13, canvas.getPitch(), "Small grids should use the bacteria size plus the gap");
+    }
+
+    @Test
+    void testPitch_LargeGridShrinks() {
+        assertEquals(3, new GenCanvas(300, 300).getPitch(), "Cells should shrink to fit");
+        assertEquals(1, new GenCanvas(2000, 2000).getPitch(), "Cells never get smaller than a pixel");
+    }
+
+    @Test
+    void testRender_RoundBacteria() {
+        int[][] gen = new int[3][3];
+        gen[0][0] = 1;
+        GenCanvas canvas = new GenCanvas(3, 3);
+
+        canvas.render(gen);
+
+        assertEquals(Color.BLACK.getRGB(), canvas.getPixel(5, 5), "Centre of a live cell should be black");
+        assertEquals(Color.WHITE.getRGB(), canvas.getPixel(13 + 5, 5), "Centre of a dead cell should be white");
+        assertEquals(BG, canvas.getPixel(0, 0), "Corner outside the circle should be background");
+        assertEquals(BG, canvas.getPixel(11, 5), "Gap between cells should be background");
+    }
+
+    @Test
+    void testRender_PixelPerCell() {
+        int[][] gen = new int[1000][1000];
+        gen[10][20] = 1;
+        GenCanvas canvas = new GenCanvas(1000, 1000);
+
+        canvas.render(gen);
+
+        assertEquals(Color.BLACK.getRGB(), canvas.getPixel(20, 10), "Live cell should be one black pixel");
+        assertEquals(Color.WHITE.getRGB(), canvas.getPixel(21, 10), "Dead cell should be one white pixel");
+    }
+
+    @Test
+    void testDrawCell_UpdatesOneCell() {
+        GenCanvas canvas = new GenCanvas(3, 3);
+        canvas.render(new int[3][3]);
+
+        canvas.drawCell(1, 2, 1);
+
+        assertEquals(Color.BLACK.getRGB(), canvas.getPixel(2 * 13 + 5, 13 + 5), "Drawn cell should be alive");
+        assertEquals(Color.WHITE.getRGB(), canvas.getPixel(13 + 5, 13 + 5), "Other cells should not change");
+    }
+
+    @Test
+    void testDrawChanges_DrawsFlippedCells() {
+        int[][] gen = new int[4][4];
+        GenCanvas canvas = new GenCanvas(4, 4);
+        canvas.render(gen);
+
+        gen[2][3] = 1;
+        gen[0][1] = 1;
+        ChangeSet changes = new ChangeSet();
+        changes.clear(4);
+        changes.add(2, 3);
+        changes.add(0, 1);
+        canvas.drawChanges(gen, changes);
+
+        assertEquals(Color.BLACK.getRGB(), canvas.getPixel(3 * 13 + 5, 2 * 13 + 5), "Flipped cell should be drawn");
+        assertEquals(Color.BLACK.getRGB(), canvas.getPixel(13 + 5, 5), "Flipped cell should be drawn");
+    }
+
+    @Test
+    void testDrawChanges_Empty() {
+        GenCanvas canvas = new GenCanvas(4, 4);
+        ChangeSet changes = new ChangeSet();
+        changes.clear(4);
+        assertDoesNotThrow(() -> canvas.drawChanges(new int[4][4], changes));
+    }
+
+    @Test
+    void testPreferredSize_IncludesBorder() {
+        Dimension size = new GenCanvas(30, 30).getPreferredSize();
+        assertEquals(30 * 13 + 60, size.width);
+        assertEquals(30 * 13 + 60, size.height);
+    }
+
+    @Test
+    void testRenderMode_ForDimension() {
+        assertEquals(RenderMode.CIRCLES, RenderMode.forDimension(30));
+        assertEquals(RenderMode.CANVAS, RenderMode.forDimension(1000));
+    }
+}
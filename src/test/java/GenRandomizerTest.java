@@ -0,0 +1,64 @@
+import org.example.BitBoardEngine;
+import org.example.GenRandomizer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GenRandomizerTest {
+
+    private static long population(long[] board) {
+        long total = 0;
+        for (long word : board) {
+            total += Long.bitCount(word);
+        }
+        return total;
+    }
+
+    @Test
+    void testRandomBoard_SameGenWhateverTheThreads() {
+        long[] single = GenRandomizer.randomBoard(300, 200, 42, 0.3, 1);
+        long[] pool = GenRandomizer.randomBoard(300, 200, 42, 0.3, 4);
+        long[] common = GenRandomizer.randomBoard(300, 200, 42, 0.3);
+
+        assertArrayEquals(single, pool, "The thread count should not change the gen");
+        assertArrayEquals(single, common, "The common pool should give the same gen");
+    }
+
+    @Test
+    void testRandomGen_MatchesRandomBoard() {
+        int[][] gen = GenRandomizer.randomGen(130, 100, 7, 0.37, 3);
+        long[] board = GenRandomizer.randomBoard(130, 100, 7, 0.37, 2);
+
+        assertArrayEquals(board, BitBoardEngine.pack(gen), "Both layouts should hold the same cells");
+    }
+
+    @Test
+    void testRandomBoard_DensityIsRespected() {
+        for (double density : new double[]{0.1, 0.3, 0.5, 0.75}) {
+            long[] board = GenRandomizer.randomBoard(256, 256, 3, density);
+            double actual = population(board) / (256.0 * 256.0);
+            assertEquals(density, actual, 0.01, "Live cells should follow the density " + density);
+        }
+    }
+
+    @Test
+    void testRandomBoard_EmptyAndFull() {
+        assertEquals(0, population(GenRandomizer.randomBoard(100, 100, 1, 0)));
+        assertEquals(100 * 100, population(GenRandomizer.randomBoard(100, 100, 1, 1)),
+                "Cells past the last column should stay dead");
+    }
+
+    @Test
+    void testRandomBoard_SeedMatters() {
+        assertArrayEquals(GenRandomizer.randomBoard(64, 64, 5, 0.5), GenRandomizer.randomBoard(64, 64, 5, 0.5));
+        assertFalse(java.util.Arrays.equals(GenRandomizer.randomBoard(64, 64, 5, 0.5),
+                GenRandomizer.randomBoard(64, 64, 6, 0.5)), "Different seeds should give different gens");
+    }
+
+    @Test
+    void testRandomBoard_InvalidDensity() {
+        assertThrows(IllegalArgumentException.class, () -> GenRandomizer.randomBoard(10, 10, 1, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> GenRandomizer.randomBoard(10, 10, 1, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> GenRandomizer.randomBoard(10, 10, 1, Double.NaN));
+    }
+}
@@ -0,0 +1,112 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.example.GenRandomizer;
+import org.example.GenerationEngine;
+import org.example.Grid;
+import org.example.IntArrayGrid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridTest {
+
+    @Test
+    void testByteGrid_CopyOfKeepsCells() {
+        int[][] gen = GenRandomizer.randomGen(7, 11, 3, 0.5);
+        ByteGrid grid = ByteGrid.copyOf(gen);
+
+        assertEquals(7, grid.getRows());
+        assertEquals(11, grid.getCols());
+        assertEquals(7 * 11, grid.getCells().length, "One byte per cell, no padding");
+        assertArrayEquals(gen, grid.toArray());
+        assertTrue(grid.sameCells(new IntArrayGrid(gen)), "Same cells whatever the backend");
+    }
+
+    @Test
+    void testRowAccess_RoundTrips() {
+        Grid grid = Grid.of(3, 5);
+        grid.writeRow(1, new byte[]{1, 0, 1, 1, 0});
+        byte[] row = new byte[5];
+        grid.readRow(1, row);
+
+        assertArrayEquals(new byte[]{1, 0, 1, 1, 0}, row);
+        assertEquals(3, grid.population());
+        assertEquals(1, grid.get(1, 3));
+        assertEquals(0, grid.get(0, 3), "Other rows stay dead");
+    }
+
+    @Test
+    void testCopy_IsIndependent() {
+        for (Grid grid : new Grid[]{Grid.of(4, 4), Grid.wrap(new int[4][4])}) {
+            grid.set(2, 2, 1);
+            Grid copy = grid.copy();
+            copy.set(0, 0, 1);
+
+            assertEquals(grid.getClass(), copy.getClass(), "A copy keeps the backend");
+            assertEquals(0, grid.get(0, 0), "The copy shouldn't write to the original");
+            assertEquals(1, copy.get(2, 2));
+            assertEquals(0, grid.emptyCopy().population());
+        }
+    }
+
+    @Test
+    void testCopyFrom_AcrossBackends() {
+        int[][] gen = GenRandomizer.randomGen(9, 9, 5, 0.4);
+        ByteGrid grid = new ByteGrid(9, 9);
+        grid.copyFrom(new IntArrayGrid(gen));
+        IntArrayGrid back = new IntArrayGrid(new int[9][9]);
+        back.copyFrom(grid);
+
+        assertArrayEquals(gen, back.getArray());
+    }
+
+    @Test
+    void testRandomGrid_SameCellsAsRandomGen() {
+        ByteGrid grid = GenRandomizer.randomGrid(130, 70, 42, 0.3);
+        assertArrayEquals(GenRandomizer.randomGen(130, 70, 42, 0.3), grid.toArray());
+    }
+
+    @Test
+    void testEngines_SameResultOnEveryBackend() {
+        int[][] gen = GenRandomizer.randomGen(33, 45, 11, 0.4);
+        int[][] expected = new int[33][45];
+        new ArrayEngine().step(gen, expected);
+
+        for (String name : new String[]{"array", "bitboard", "halo", "vector", "lut", "active", "parallel",
+                "incremental"}) {
+            GenerationEngine engine = GenerationEngine.forName(name);
+            ByteGrid next = new ByteGrid(33, 45);
+            ChangeSet changes = new ChangeSet();
+            changes.clear(45);
+            int changed = engine.step(ByteGrid.copyOf(gen), next, changes);
+            if (engine instanceof AutoCloseable closeable) {
+                assertDoesNotThrow(closeable::close);
+            }
+
+            assertArrayEquals(expected, next.toArray(), name + " should step a ByteGrid like an int[][]");
+            assertEquals(changes.size(), changed, name);
+        }
+    }
+
+    @Test
+    void testLogic_StepsTheLoadedBackend() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(20);
+        ByteGrid start = logic.generateInitialGrid(8, 0.5);
+        logic.loadGen(start);
+
+        BacteriaLifeLogic reference = new BacteriaLifeLogic(20);
+        reference.loadGen(logic.generateInitialGen(8, 0.5));
+        for (int k = 0; k < 10; k++) {
+            assertEquals(reference.step(), logic.step());
+        }
+
+        assertInstanceOf(ByteGrid.class, logic.getCurrentGrid(), "The buffers should keep the loaded backend");
+        assertArrayEquals(reference.getCurrentGen(), logic.getCurrentGen());
+        assertEquals(reference.getStatus(), logic.getStatus());
+        assertTrue(BacteriaLifeLogic.checkStableGen(reference.getCurrentGrid(), logic.getCurrentGrid()));
+        assertTrue(logic.generateNewGen(logic.getCurrentGrid()).sameCells(
+                Grid.wrap(reference.generateNewGen(reference.getCurrentGen()))));
+    }
+}
@@ -0,0 +1,143 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.GenerationEngine;
+import org.example.HaloEngine;
+import org.example.Topology;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HaloEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    // Cell past the edge the slow way: wrapped for a torus, reflected for a mirror
+    private static int cellAt(int[][] gen, int row, int col, Topology topology) {
+        int rows = gen.length;
+        int cols = gen[0].length;
+        if (topology == Topology.TORUS) {
+            return gen[Math.floorMod(row, rows)][Math.floorMod(col, cols)];
+        }
+        row = row < 0 ? 0 : Math.min(row, rows - 1);
+        col = col < 0 ? 0 : Math.min(col, cols - 1);
+        return gen[row][col];
+    }
+
+    private static int[][] referenceStep(int[][] gen, Topology topology) {
+        int[][] newGen = new int[gen.length][gen[0].length];
+        for (int i = 0; i < gen.length; i++) {
+            for (int j = 0; j < gen[0].length; j++) {
+                int neighbours = 0;
+                for (int dr = -1; dr <= 1; dr++) {
+                    for (int dc = -1; dc <= 1; dc++) {
+                        if (dr != 0 || dc != 0) {
+                            neighbours += cellAt(gen, i + dr, j + dc, topology);
+                        }
+                    }
+                }
+                newGen[i][j] = ArrayEngine.nextState(gen[i][j], neighbours);
+            }
+        }
+        return newGen;
+    }
+
+    @Test
+    void testStep_DeadBorderMatchesArrayEngine() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(50);
+        BacteriaLifeLogic haloLogic = new BacteriaLifeLogic(50, GenerationEngine.forName("halo"));
+        int[][] gen = randomGen(50, 50, 2);
+        arrayLogic.loadGen(gen);
+        haloLogic.loadGen(gen);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(arrayLogic.step(), haloLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), haloLogic.getCurrentGen(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_TorusAndMirrorMatchReference() {
+        int[][] sizes = {{1, 1}, {1, 5}, {4, 1}, {3, 3}, {17, 29}, {40, 40}};
+        for (Topology topology : new Topology[]{Topology.TORUS, Topology.MIRROR}) {
+            HaloEngine engine = new HaloEngine(topology);
+            for (int k = 0; k < sizes.length; k++) {
+                int[][] gen = randomGen(sizes[k][0], sizes[k][1], k);
+                for (int round = 0; round < 10; round++) {
+                    int[][] expected = referenceStep(gen, topology);
+                    int[][] actual = new int[gen.length][gen[0].length];
+                    engine.step(gen, actual);
+                    assertArrayEquals(expected, actual,
+                            topology + " " + sizes[k][0] + "x" + sizes[k][1] + " round " + round);
+                    gen = actual;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testStep_GliderWrapsAroundTheTorus() {
+        int[][] gen = new int[12][12];
+        gen[0][1] = 1;
+        gen[1][2] = 1;
+        gen[2][0] = 1;
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(12, new HaloEngine(Topology.TORUS));
+        logic.setMaxRounds(1000);
+        logic.loadGen(gen);
+
+        // One cell diagonally every 4 rounds, back home after 4 x 12
+        for (int i = 0; i < 48; i++) {
+            logic.step();
+        }
+        assertArrayEquals(gen, logic.getCurrentGen(), "Glider should come back where it started");
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        int[][] gen = randomGen(30, 45, 6);
+        int[][] newGen = new int[30][45];
+        ChangeSet changes = new ChangeSet();
+        changes.clear(45);
+
+        int changed = new HaloEngine(Topology.MIRROR).step(gen, newGen, changes);
+
+        assertEquals(changed, changes.size());
+        BitBoardEngineTest.assertChangesMatch(gen, newGen, changes);
+    }
+
+    @Test
+    void testForName_PicksTheTopology() {
+        assertEquals("halo:dead", GenerationEngine.forName("halo").getName());
+        assertEquals(Topology.TORUS, ((HaloEngine) GenerationEngine.forName("halo:torus")).getTopology());
+        assertEquals(Topology.MIRROR, ((HaloEngine) GenerationEngine.forName("halo:Mirror")).getTopology());
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.forName("halo:sphere"));
+    }
+
+    @Test
+    void testTopology_ParseIgnoresDefaultLocale() {
+        Locale previous = Locale.getDefault();
+        try {
+            // Turkish upper-cases i to a dotted İ
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            assertEquals(Topology.MIRROR, Topology.parse("mirror"));
+            assertEquals("mirror", Topology.MIRROR.toString());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+import org.example.ArrayEngine;
+import org.example.HashLifeEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashLifeEngineTest {
+
+    private static final int DIMENSION = 160;
+
+    // Random soup in the middle of an empty grid, far enough from the edges
+    private static int[][] soup(long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[DIMENSION][DIMENSION];
+        for (int i = 72; i < 88; i++) {
+            for (int j = 72; j < 88; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    private static int[][] arraySteps(int[][] gen, int rounds) {
+        ArrayEngine engine = new ArrayEngine();
+        for (int i = 0; i < rounds; i++) {
+            int[][] newGen = new int[gen.length][gen[0].length];
+            engine.step(gen, newGen);
+            gen = newGen;
+        }
+        return gen;
+    }
+
+    private static int[][] glider() {
+        int[][] gen = new int[5][5];
+        gen[0][1] = 1;
+        gen[1][2] = 1;
+        gen[2][0] = 1;
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        return gen;
+    }
+
+    @Test
+    void testLoadGen_RoundTrip() {
+        int[][] gen = soup(1);
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(gen);
+
+        assertArrayEquals(gen, engine.toArray(0, 0, DIMENSION, DIMENSION), "Loaded gen should read back the same");
+        assertEquals(0, engine.getGeneration(), "Loading should start at round 0");
+    }
+
+    @Test
+    void testStep_MatchesArrayEngine() {
+        int[][] gen = soup(2);
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(gen);
+
+        for (int i = 0; i < 40; i++) {
+            gen = arraySteps(gen, 1);
+            engine.step();
+            assertArrayEquals(gen, engine.toArray(0, 0, DIMENSION, DIMENSION), "Gens should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testAdvance_JumpMatchesSequentialSteps() {
+        int[][] gen = soup(3);
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(gen);
+
+        engine.advance(6);
+
+        assertEquals(64, engine.getGeneration(), "One jump should advance 2^6 rounds");
+        assertArrayEquals(arraySteps(gen, 64), engine.toArray(0, 0, DIMENSION, DIMENSION),
+                "Jump should match 64 single steps");
+    }
+
+    @Test
+    void testAdvance_MixedStepSizes() {
+        int[][] gen = soup(4);
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(gen);
+
+        engine.advance(3);
+        engine.advance(0);
+        engine.advance(4);
+
+        assertEquals(25, engine.getGeneration());
+        assertArrayEquals(arraySteps(gen, 25), engine.toArray(0, 0, DIMENSION, DIMENSION),
+                "Changing the step size should not reuse stale results");
+    }
+
+    @Test
+    void testAdvance_GliderMillionsOfRounds() {
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(glider());
+
+        engine.advance(22);
+
+        // A glider moves one cell diagonally every 4 rounds
+        long shift = (1L << 22) / 4;
+        assertEquals(1L << 22, engine.getGeneration());
+        assertEquals(5, engine.getPopulation(), "Glider should keep its 5 cells");
+        assertArrayEquals(glider(), engine.toArray(shift, shift, 5, 5), "Glider should be back in its phase");
+    }
+
+    @Test
+    void testAdvance_SmallCacheEvicts() {
+        int[][] gen = soup(5);
+        HashLifeEngine engine = new HashLifeEngine(500);
+        engine.loadGen(gen);
+
+        for (int i = 0; i < 30; i++) {
+            engine.step();
+        }
+
+        assertTrue(engine.getEvictedNodes() > 0, "A small cache should evict nodes");
+        assertArrayEquals(arraySteps(gen, 30), engine.toArray(0, 0, DIMENSION, DIMENSION),
+                "Evictions should not change the result");
+    }
+
+    @Test
+    void testAdvance_CacheStaysBoundedDuringJumps() {
+        // R-pentomino, it keeps growing for 1103 rounds
+        int[][] gen = new int[3][3];
+        gen[0][1] = 1;
+        gen[0][2] = 1;
+        gen[1][0] = 1;
+        gen[1][1] = 1;
+        gen[2][1] = 1;
+        HashLifeEngine unbounded = new HashLifeEngine();
+        HashLifeEngine bounded = new HashLifeEngine(5000);
+        unbounded.loadGen(gen);
+        bounded.loadGen(gen);
+
+        for (int i = 0; i < 2; i++) {
+            unbounded.advance(9);
+            bounded.advance(9);
+        }
+
+        assertTrue(unbounded.getPeakNodeCount() > 5000, "The jumps should need more nodes than the bound");
+        assertTrue(bounded.getPeakNodeCount() <= 5000, "Peak was " + bounded.getPeakNodeCount());
+        assertTrue(bounded.getEvictedNodes() > 0, "Nodes should be evicted in the middle of a jump");
+        assertEquals(unbounded.getPopulation(), bounded.getPopulation());
+        assertArrayEquals(unbounded.toArray(-200, -200, 400, 400), bounded.toArray(-200, -200, 400, 400),
+                "Evictions in the middle of a jump should not change the result");
+    }
+
+    @Test
+    void testAdvance_SmallCacheMixedStepSizes() {
+        int[][] gen = soup(6);
+        HashLifeEngine engine = new HashLifeEngine(300);
+        engine.loadGen(gen);
+
+        // Collections in the middle of a jump, then results of the old step size must all be gone
+        int rounds = 0;
+        for (int stepLog : new int[]{4, 1, 5, 0, 3, 2, 4}) {
+            engine.advance(stepLog);
+            rounds += 1 << stepLog;
+            gen = arraySteps(gen, 1 << stepLog);
+            assertArrayEquals(gen, engine.toArray(0, 0, DIMENSION, DIMENSION), "Gens should match at round " + rounds);
+        }
+        assertTrue(engine.getEvictedNodes() > 0, "A small cache should evict nodes");
+    }
+
+    @Test
+    void testAdvance_EmptyPlane() {
+        HashLifeEngine engine = new HashLifeEngine();
+        engine.loadGen(new int[10][10]);
+
+        engine.advance(10);
+
+        assertEquals(0, engine.getPopulation(), "Empty plane should stay empty");
+        assertEquals(0, engine.getCell(-5, 1_000_000), "Cells far away are dead");
+    }
+
+    @Test
+    void testAdvance_InvalidStep() {
+        HashLifeEngine engine = new HashLifeEngine();
+        assertThrows(IllegalArgumentException.class, () -> engine.advance(-1));
+        assertThrows(IllegalArgumentException.class, () -> engine.advance(61));
+    }
+
+    @Test
+    void testConstructor_InvalidCache() {
+        assertThrows(IllegalArgumentException.class, () -> new HashLifeEngine(0));
+    }
+}
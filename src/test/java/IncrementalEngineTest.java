@@ -0,0 +1,135 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.GenRandomizer;
+import org.example.GenerationEngine;
+import org.example.IncrementalEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalEngineTest {
+
+    @Test
+    void testStep_MatchesArrayEngineWithBuffers() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(50);
+        BacteriaLifeLogic incrementalLogic = new BacteriaLifeLogic(50, new IncrementalEngine());
+        int[][] gen = GenRandomizer.randomGen(50, 50, 21, 0.4);
+        arrayLogic.loadGen(gen);
+        incrementalLogic.loadGen(gen);
+
+        for (int i = 0; i < 150; i++) {
+            assertEquals(arrayLogic.step(), incrementalLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), incrementalLogic.getCurrentGen(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineOnByteGrids() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(37);
+        BacteriaLifeLogic incrementalLogic = new BacteriaLifeLogic(37, new IncrementalEngine());
+        arrayLogic.loadGen(arrayLogic.generateInitialGrid(22, 0.5));
+        incrementalLogic.loadGen(incrementalLogic.generateInitialGrid(22, 0.5));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(arrayLogic.step(), incrementalLogic.step(), "Changes should match at round " + (i + 1));
+            assertTrue(arrayLogic.getCurrentGrid().sameCells(incrementalLogic.getCurrentGrid()),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineWithNewArrays() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(45);
+        BacteriaLifeLogic incrementalLogic = new BacteriaLifeLogic(45, new IncrementalEngine());
+        int[][] arrayGen = GenRandomizer.randomGen(45, 45, 23, 0.5);
+        int[][] incrementalGen = arrayGen;
+
+        for (int i = 0; i < 80; i++) {
+            arrayGen = arrayLogic.generateNewGen(arrayGen);
+            incrementalGen = incrementalLogic.generateNewGen(incrementalGen);
+            assertArrayEquals(arrayGen, incrementalGen, "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_BlinkerOnlyEvaluatesItsNeighbourhood() {
+        int[][] gen = new int[200][200];
+        gen[100][99] = 1;
+        gen[100][100] = 1;
+        gen[100][101] = 1;
+
+        IncrementalEngine engine = new IncrementalEngine();
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(200, engine);
+        testLogic.loadGen(gen);
+
+        testLogic.step();
+        assertEquals(200 * 200, engine.getLastEvaluated(), "First step should evaluate every cell");
+        for (int i = 0; i < 5; i++) {
+            assertEquals(4, testLogic.step(), "Blinker should flip 4 cells every round");
+            // The 5x5 box around the 4 flipped cells, without its corners
+            assertEquals(21, engine.getLastEvaluated(), "Only the flipped cells' neighbourhoods should be evaluated");
+        }
+    }
+
+    @Test
+    void testStep_StableBlockEvaluatesNothing() {
+        int[][] gen = new int[64][64];
+        gen[0][0] = 1;
+        gen[0][1] = 1;
+        gen[1][0] = 1;
+        gen[1][1] = 1;
+
+        IncrementalEngine engine = new IncrementalEngine();
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(64, engine);
+        testLogic.loadGen(gen);
+
+        assertEquals(0, testLogic.step());
+        assertEquals(0, engine.getPendingCells(), "Nothing flipped, nothing to look at next");
+        assertEquals(0, testLogic.step());
+        assertEquals(0, engine.getLastEvaluated());
+        assertEquals(1, testLogic.getCurrentGen()[0][0], "Block in the corner should remain");
+    }
+
+    @Test
+    void testReset_AfterEditingTheGen() {
+        IncrementalEngine engine = new IncrementalEngine();
+        int[][] gen = new int[8][8];
+        int[][] newGen = new int[8][8];
+        engine.step(gen, newGen);
+        engine.step(newGen, gen);
+        assertEquals(0, engine.getLastEvaluated(), "Empty grid should evaluate nothing");
+
+        // Edited by hand: the engine can't know until it's reset
+        gen[3][2] = 1;
+        gen[3][3] = 1;
+        gen[3][4] = 1;
+        engine.reset();
+        int[][] expected = new int[8][8];
+        new ArrayEngine().step(gen, expected);
+
+        assertEquals(4, engine.step(gen, newGen));
+        assertArrayEquals(expected, newGen);
+        assertEquals(64, engine.getLastEvaluated(), "Reset should evaluate every cell");
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        BacteriaLifeLogic testLogic = new BacteriaLifeLogic(40, GenerationEngine.forName("incremental"));
+        testLogic.loadGen(GenRandomizer.randomGen(40, 40, 24, 0.5));
+
+        for (int i = 0; i < 20; i++) {
+            int[][] before = new int[40][];
+            for (int r = 0; r < 40; r++) {
+                before[r] = testLogic.getCurrentGen()[r].clone();
+            }
+            int changed = testLogic.step();
+            ChangeSet changes = testLogic.getLastChanges();
+
+            assertEquals(changed, changes.size(), "Every change should be recorded");
+            BitBoardEngineTest.assertChangesMatch(before, testLogic.getCurrentGen(), changes);
+        }
+        assertEquals("incremental", testLogic.getEngine().getName());
+    }
+}
@@ -0,0 +1,131 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.example.GenerationEngine;
+import org.example.LutEngine;
+import org.example.Rule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LutEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    @Test
+    void testRule_ConwayTableMatchesRuleChain() {
+        byte[] table = Rule.CONWAY.compile();
+        assertEquals(512, table.length);
+        for (int index = 0; index < 512; index++) {
+            int bacteria = (index >>> 4) & 1;
+            int neighbours = Integer.bitCount(index) - bacteria;
+            assertEquals(ArrayEngine.nextState(bacteria, neighbours), table[index], "Index " + index);
+        }
+    }
+
+    @Test
+    void testRule_ParseAndFormat() {
+        assertEquals("B3/S23", Rule.CONWAY.toString());
+        assertEquals("B36/S23", Rule.HIGHLIFE.toString());
+        assertEquals(Rule.HIGHLIFE, Rule.parse("b63/s32"));
+        assertEquals("B/S012345678", Rule.parse("B/S876543210").toString());
+
+        assertThrows(IllegalArgumentException.class, () -> Rule.parse("23/3"));
+        assertThrows(IllegalArgumentException.class, () -> Rule.parse("B9/S23"));
+        assertThrows(IllegalArgumentException.class, () -> Rule.parse("B3"));
+        assertThrows(IllegalArgumentException.class, () -> new Rule(1 << 9, 0));
+    }
+
+    @Test
+    void testStep_DefaultRuleMatchesArrayEngine() {
+        int[][] sizes = {{1, 1}, {2, 3}, {7, 1}, {30, 30}, {41, 77}};
+        for (int k = 0; k < sizes.length; k++) {
+            int[][] gen = randomGen(sizes[k][0], sizes[k][1], k);
+            int[][] expected = new int[sizes[k][0]][sizes[k][1]];
+            int[][] actual = new int[sizes[k][0]][sizes[k][1]];
+            assertEquals(new ArrayEngine().step(gen, expected), new LutEngine().step(gen, actual));
+            assertArrayEquals(expected, actual, "Gens should match for " + sizes[k][0] + "x" + sizes[k][1]);
+        }
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineOverManyRounds() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(60);
+        BacteriaLifeLogic lutLogic = new BacteriaLifeLogic(60, GenerationEngine.forName("lut"));
+        int[][] gen = randomGen(60, 60, 9);
+        arrayLogic.loadGen(gen);
+        lutLogic.loadGen(gen);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(arrayLogic.step(), lutLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), lutLogic.getCurrentGen(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_HighLifeBirthWithSix() {
+        int[][] gen = new int[3][3];
+        gen[0][0] = 1;
+        gen[0][1] = 1;
+        gen[0][2] = 1;
+        gen[2][0] = 1;
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        int[][] conway = new int[3][3];
+        int[][] highLife = new int[3][3];
+
+        new LutEngine().step(gen, conway);
+        new LutEngine(Rule.HIGHLIFE).step(gen, highLife);
+
+        assertEquals(0, conway[1][1], "Six neighbours is no birth in B3/S23");
+        assertEquals(1, highLife[1][1], "Six neighbours is a birth in B36/S23");
+    }
+
+    @Test
+    void testStep_ByteGridMatchesIntArrays() {
+        int[][] sizes = {{1, 1}, {2, 3}, {7, 1}, {41, 77}};
+        for (int k = 0; k < sizes.length; k++) {
+            int[][] gen = randomGen(sizes[k][0], sizes[k][1], k + 10);
+            int[][] expected = new int[sizes[k][0]][sizes[k][1]];
+            ByteGrid actual = new ByteGrid(sizes[k][0], sizes[k][1]);
+            LutEngine engine = new LutEngine(Rule.HIGHLIFE);
+            assertEquals(engine.step(gen, expected), engine.step(ByteGrid.copyOf(gen), actual, null));
+            assertArrayEquals(expected, actual.toArray(), "Gens should match for " + sizes[k][0] + "x" + sizes[k][1]);
+        }
+    }
+
+    @Test
+    void testForName_PicksTheRule() {
+        GenerationEngine engine = GenerationEngine.forName("lut:B36/S23");
+        assertEquals(Rule.HIGHLIFE, ((LutEngine) engine).getRule());
+        assertEquals("lut:B36/S23", engine.getName());
+        assertEquals("lut:B3/S23", GenerationEngine.forName("lut").getName());
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.forName("lut:B3"));
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        int[][] gen = randomGen(25, 40, 4);
+        int[][] newGen = new int[25][40];
+        ChangeSet changes = new ChangeSet();
+        changes.clear(40);
+
+        int changed = new LutEngine().step(gen, newGen, changes);
+
+        assertEquals(changed, changes.size());
+        BitBoardEngineTest.assertChangesMatch(gen, newGen, changes);
+    }
+}
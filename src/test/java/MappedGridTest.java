@@ -0,0 +1,104 @@
+import org.example.BitBoardEngine;
+import org.example.GenRandomizer;
+import org.example.MappedGrid;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedGridTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testStep_MatchesBitBoardEngine() throws IOException {
+        int rows = 90;
+        int cols = 150;
+        long[] board = GenRandomizer.randomBoard(rows, cols, 4, 0.35);
+        long[] newBoard = new long[board.length];
+        int[][] expected = new int[rows][cols];
+
+        try (MappedGrid grid = MappedGrid.create(dir.resolve("grid.blm"), rows, cols)) {
+            grid.randomize(4, 0.35);
+            for (int round = 1; round <= 30; round++) {
+                long changed = BitBoardEngine.stepBoard(board, newBoard, rows, cols);
+                long[] swap = board;
+                board = newBoard;
+                newBoard = swap;
+
+                assertEquals(changed, grid.step(), "Changes should match at round " + round);
+                BitBoardEngine.unpack(board, expected);
+                assertArrayEquals(expected, grid.toArray(0, 0, rows, cols), "Gens should match at round " + round);
+            }
+            assertEquals(30, grid.getRound());
+        }
+    }
+
+    @Test
+    void testOpen_ResumesTheRun() throws IOException {
+        Path file = dir.resolve("resume.blm");
+        int[][] before;
+        long population;
+        try (MappedGrid grid = MappedGrid.create(file, 64, 200)) {
+            grid.randomize(9, 0.4);
+            for (int i = 0; i < 7; i++) {
+                grid.step();
+            }
+            before = grid.toArray(0, 0, 64, 200);
+            population = grid.getPopulation();
+        }
+
+        try (MappedGrid grid = MappedGrid.open(file)) {
+            assertEquals(64, grid.getRows());
+            assertEquals(200, grid.getCols());
+            assertEquals(7, grid.getRound(), "The round should survive a restart");
+            assertEquals(population, grid.getPopulation());
+            assertArrayEquals(before, grid.toArray(0, 0, 64, 200), "The gen should survive a restart");
+            grid.step();
+            assertEquals(8, grid.getRound());
+        }
+    }
+
+    @Test
+    void testSetCell_BlinkerOscillates() throws IOException {
+        try (MappedGrid grid = MappedGrid.create(dir.resolve("blinker.blm"), 5, 70)) {
+            grid.setCell(2, 63, 1);
+            grid.setCell(2, 64, 1);
+            grid.setCell(2, 65, 1);
+
+            assertEquals(4, grid.step());
+            assertEquals(1, grid.getCell(1, 64), "Blinker should turn vertical across two words");
+            assertEquals(1, grid.getCell(3, 64));
+            assertEquals(0, grid.getCell(2, 63));
+            assertEquals(4, grid.step());
+            assertEquals(1, grid.getCell(2, 63), "Blinker should come back");
+            assertEquals(3, grid.getPopulation());
+
+            grid.setCell(2, 63, 0);
+            assertEquals(0, grid.getCell(2, 63));
+            assertThrows(IndexOutOfBoundsException.class, () -> grid.getCell(5, 0));
+        }
+    }
+
+    @Test
+    void testCreate_FileHoldsTwoBitPackedBoards() throws IOException {
+        Path file = dir.resolve("size.blm");
+        try (MappedGrid grid = MappedGrid.create(file, 100, 100)) {
+            assertEquals(MappedGrid.fileSize(100, 100), grid.getFileSize());
+        }
+        assertEquals(64 + 2 * 100 * 2 * 8, Files.size(file));
+    }
+
+    @Test
+    void testOpen_InvalidFiles() throws IOException {
+        Path other = dir.resolve("other.bin");
+        Files.write(other, new byte[128]);
+        assertThrows(IOException.class, () -> MappedGrid.open(other));
+        assertThrows(IllegalArgumentException.class, () -> MappedGrid.create(dir.resolve("empty.blm"), 0, 10));
+    }
+}
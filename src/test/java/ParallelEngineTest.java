@@ -0,0 +1,108 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.ParallelEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    @Test
+    void testStep_MatchesArrayEngine() {
+        int[][] gen = randomGen(200, 200, 3);
+        int[][] expected = new int[200][200];
+        int expectedChanges = new ArrayEngine().step(gen, expected);
+
+        int[] bandHeights = {1, 7, 64, 500};
+        for (int bandHeight : bandHeights) {
+            try (ParallelEngine engine = new ParallelEngine(4, bandHeight)) {
+                int[][] actual = new int[200][200];
+                int changes = engine.step(gen, actual);
+
+                assertArrayEquals(expected, actual, "Parallel result should match for band height " + bandHeight);
+                assertEquals(expectedChanges, changes, "Changes should match for band height " + bandHeight);
+            }
+        }
+    }
+
+    @Test
+    void testStep_SingleThreadMatches() {
+        int[][] gen = randomGen(50, 50, 5);
+        int[][] expected = new int[50][50];
+        int[][] actual = new int[50][50];
+        new ArrayEngine().step(gen, expected);
+
+        try (ParallelEngine engine = new ParallelEngine(1, 8)) {
+            engine.step(gen, actual);
+        }
+
+        assertArrayEquals(expected, actual, "One worker should give the same result");
+    }
+
+    @Test
+    void testStep_ManyRoundsThroughLogic() {
+        try (ParallelEngine engine = new ParallelEngine(3, 5)) {
+            BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(40);
+            BacteriaLifeLogic parallelLogic = new BacteriaLifeLogic(40, engine);
+            int[][] gen = randomGen(40, 40, 9);
+            arrayLogic.loadGen(gen);
+            parallelLogic.loadGen(gen);
+
+            for (int i = 0; i < 30; i++) {
+                assertEquals(arrayLogic.step(), parallelLogic.step(), "Changes should match at round " + (i + 1));
+                assertArrayEquals(arrayLogic.getCurrentGen(), parallelLogic.getCurrentGen(),
+                        "Generations should match at round " + (i + 1));
+            }
+        }
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        int[][] gen = randomGen(100, 60, 4);
+        int[][] newGen = new int[100][60];
+        ChangeSet changes = new ChangeSet();
+        changes.clear(60);
+
+        try (ParallelEngine engine = new ParallelEngine(3, 9)) {
+            int changed = engine.step(gen, newGen, changes);
+            assertEquals(changed, changes.size(), "Every change should be recorded");
+        }
+        BitBoardEngineTest.assertChangesMatch(gen, newGen, changes);
+    }
+
+    @Test
+    void testConstructor_Settings() {
+        try (ParallelEngine engine = new ParallelEngine(2, 16)) {
+            assertEquals(2, engine.getParallelism());
+            assertEquals(16, engine.getBandHeight());
+            assertEquals("parallel", engine.getName());
+        }
+    }
+
+    @Test
+    void testConstructor_InvalidBandHeight() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelEngine(2, 0),
+                "Band height below 1 should be rejected");
+    }
+
+    @Test
+    void testStep_EmptyGrid() {
+        try (ParallelEngine engine = new ParallelEngine()) {
+            assertEquals(0, engine.step(new int[0][0], new int[0][0]), "Empty grid has no changes");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+import org.example.BacteriaLifeLogic;
+import org.example.BitBoardEngine;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.example.GenRandomizer;
+import org.example.Grid;
+import org.example.PopulationStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopulationStatsTest {
+
+    private static long countIn(Grid gen, int fromRow, int fromCol, int toRow, int toCol) {
+        long count = 0;
+        for (int i = fromRow; i < toRow; i++) {
+            for (int j = fromCol; j < toCol; j++) {
+                count += gen.get(i, j);
+            }
+        }
+        return count;
+    }
+
+    // Bounding box the slow way: minRow, minCol, maxRow, maxCol, all -1 when empty
+    private static int[] bounds(Grid gen) {
+        int[] box = {-1, -1, -1, -1};
+        for (int i = 0; i < gen.getRows(); i++) {
+            for (int j = 0; j < gen.getCols(); j++) {
+                if (gen.get(i, j) == 1) {
+                    box[0] = box[0] < 0 ? i : box[0];
+                    box[1] = box[1] < 0 ? j : Math.min(box[1], j);
+                    box[2] = i;
+                    box[3] = Math.max(box[3], j);
+                }
+            }
+        }
+        return box;
+    }
+
+    private static void assertMatches(Grid gen, PopulationStats stats, String message) {
+        assertEquals(gen.population(), stats.getPopulation(), message);
+        int[] box = bounds(gen);
+        assertArrayEquals(box, new int[]{stats.getMinRow(), stats.getMinCol(), stats.getMaxRow(), stats.getMaxCol()},
+                message);
+    }
+
+    @Test
+    void testStep_KeepsStatsWithoutCounting() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(48);
+        logic.setPopulationStats(new PopulationStats(true));
+        logic.loadGen(logic.generateInitialGrid(31, 0.2));
+        PopulationStats stats = logic.getPopulationStats();
+        Random rand = new Random(5);
+
+        for (int round = 1; round <= 120; round++) {
+            long before = stats.getPopulation();
+            int changed = logic.step();
+            Grid gen = logic.getCurrentGrid();
+
+            assertEquals(changed, stats.getBirths() + stats.getDeaths(), "Every flip is a birth or a death");
+            assertEquals(before + stats.getBirths() - stats.getDeaths(), stats.getPopulation());
+            assertMatches(gen, stats, "Round " + round);
+            for (int q = 0; q < 5; q++) {
+                int fromRow = rand.nextInt(49);
+                int fromCol = rand.nextInt(49);
+                int toRow = fromRow + rand.nextInt(49 - fromRow);
+                int toCol = fromCol + rand.nextInt(49 - fromCol);
+                assertEquals(countIn(gen, fromRow, fromCol, toRow, toCol),
+                        stats.countIn(fromRow, fromCol, toRow, toCol), "Round " + round);
+            }
+        }
+        assertEquals(stats.getPopulation(), stats.countIn(0, 0, 48, 48));
+    }
+
+    @Test
+    void testUpdate_BoundingBoxShrinksAndGrows() {
+        ByteGrid gen = new ByteGrid(10, 12);
+        gen.set(2, 3, 1);
+        gen.set(7, 9, 1);
+        PopulationStats stats = new PopulationStats();
+        stats.reset(gen);
+        assertMatches(gen, stats, "Two cells");
+
+        ChangeSet changes = new ChangeSet();
+        changes.clear(12);
+        gen.set(7, 9, 0);
+        changes.add(7, 9);
+        stats.update(gen, changes);
+        assertMatches(gen, stats, "Death on the edge of the box should shrink it");
+        assertEquals(1, stats.getDeaths());
+
+        changes.clear(12);
+        gen.set(2, 3, 0);
+        changes.add(2, 3);
+        stats.update(gen, changes);
+        assertMatches(gen, stats, "Empty grid has no box");
+
+        changes.clear(12);
+        gen.set(5, 0, 1);
+        gen.set(9, 11, 1);
+        changes.add(5, 0);
+        changes.add(9, 11);
+        stats.update(gen, changes);
+        assertMatches(gen, stats, "Births should start a new box");
+        assertEquals(2, stats.getBirths());
+        assertEquals(1, stats.getRowCount(5));
+        assertEquals(1, stats.getColCount(11));
+    }
+
+    @Test
+    void testReset_BoardSameAsGrid() {
+        for (int cols : new int[]{1, 63, 64, 65, 130}) {
+            ByteGrid gen = GenRandomizer.randomGrid(17, cols, cols, 0.4);
+            long[] board = BitBoardEngine.pack(gen.toArray());
+            PopulationStats fromGrid = new PopulationStats(true);
+            PopulationStats fromBoard = new PopulationStats(true);
+            fromGrid.reset(gen);
+            fromBoard.reset(board, 17, cols);
+
+            assertMatches(gen, fromBoard, cols + " columns");
+            assertEquals(fromGrid.getPopulation(), fromBoard.getPopulation());
+            assertEquals(fromGrid.countIn(3, 0, 11, cols), fromBoard.countIn(3, 0, 11, cols));
+            assertEquals(countIn(gen, 3, 0, 11, cols), fromBoard.countIn(3, 0, 11, cols));
+        }
+    }
+
+    @Test
+    void testReset_OtherBackendsSameAsByteGrid() {
+        ByteGrid gen = GenRandomizer.randomGrid(23, 29, 3, 0.5);
+        PopulationStats stats = new PopulationStats();
+        stats.reset(Grid.wrap(gen.toArray()));
+        assertMatches(gen, stats, "int[][] grid");
+    }
+
+    @Test
+    void testCountIn_InvalidQueries() {
+        PopulationStats plain = new PopulationStats();
+        plain.reset(new ByteGrid(4, 4));
+        assertFalse(plain.hasRectangleQueries());
+        assertThrows(IllegalStateException.class, () -> plain.countIn(0, 0, 1, 1), "Rectangle queries are off");
+
+        PopulationStats stats = new PopulationStats(true);
+        assertThrows(IllegalStateException.class, () -> stats.countIn(0, 0, 1, 1), "Nothing counted yet");
+        stats.reset(new ByteGrid(4, 4));
+        assertEquals(0, stats.countIn(1, 1, 1, 1), "Empty rectangle");
+        assertThrows(IllegalArgumentException.class, () -> stats.countIn(0, 0, 5, 4));
+        assertThrows(IllegalArgumentException.class, () -> stats.countIn(2, 0, 1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BacteriaLifeLogic(4).setPopulationStats(null));
+    }
+}
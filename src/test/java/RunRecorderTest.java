@@ -0,0 +1,115 @@
+import org.example.ActiveRegionEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.RunReader;
+import org.example.RunRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunRecorderTest {
+
+    @TempDir
+    Path dir;
+
+    private static int[][] copy(int[][] gen) {
+        int[][] copy = new int[gen.length][];
+        for (int i = 0; i < gen.length; i++) {
+            copy[i] = gen[i].clone();
+        }
+        return copy;
+    }
+
+    // Records a run through the step listener and keeps every gen to compare with
+    private List<int[][]> recordRun(Path file, int size, int rounds, int interval) throws IOException {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(size, new ActiveRegionEngine(8));
+        logic.setMaxRounds(rounds);
+        logic.loadGen(logic.generateInitialGen(17, 0.35));
+        List<int[][]> gens = new ArrayList<>();
+        gens.add(copy(logic.getCurrentGen()));
+
+        try (RunRecorder recorder = new RunRecorder(file, size, size, interval)) {
+            recorder.start(logic);
+            logic.addStepListener(recorder);
+            for (int i = 0; i < rounds; i++) {
+                logic.step();
+                gens.add(copy(logic.getCurrentGen()));
+            }
+            logic.removeStepListener(recorder);
+        }
+        return gens;
+    }
+
+    @Test
+    void testSeek_EveryRoundMatchesTheRun() throws IOException {
+        Path file = dir.resolve("run.blr");
+        List<int[][]> gens = recordRun(file, 70, 120, 16);
+
+        try (RunReader reader = new RunReader(file)) {
+            assertEquals(70, reader.getRows());
+            assertEquals(70, reader.getCols());
+            assertEquals(0, reader.getFirstRound());
+            assertEquals(120, reader.getLastRound());
+            assertEquals(8, reader.getKeyframes(), "Keyframes at rounds 0, 16, ..., 112");
+            for (int round = 0; round <= 120; round++) {
+                assertArrayEquals(gens.get(round), reader.seek(round), "Round " + round + " should match");
+            }
+            // Backwards too, every seek starts from its own keyframe
+            assertArrayEquals(gens.get(33), reader.seek(33));
+        }
+    }
+
+    @Test
+    void testRecord_DeltasAreSmallerThanFullGens() throws IOException {
+        Path file = dir.resolve("small.blr");
+        recordRun(file, 128, 200, 100);
+
+        long raw = 201L * 128 * 128 * Integer.BYTES;
+        assertTrue(Files.size(file) * 20 < raw, "Recording should be far smaller than the int[][] gens");
+    }
+
+    @Test
+    void testSeek_OutsideTheRecording() throws IOException {
+        Path file = dir.resolve("short.blr");
+        recordRun(file, 20, 10, 4);
+
+        try (RunReader reader = new RunReader(file)) {
+            assertThrows(IllegalArgumentException.class, () -> reader.seek(-1));
+            assertThrows(IllegalArgumentException.class, () -> reader.seek(11));
+        }
+    }
+
+    @Test
+    void testRecord_SkippedRoundWritesKeyframe() throws IOException {
+        Path file = dir.resolve("skip.blr");
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        try (RunRecorder recorder = new RunRecorder(file, 5, 5, 100)) {
+            recorder.writeKeyframe(0, gen);
+            recorder.record(7, gen, new ChangeSet());
+            assertEquals(2, recorder.getKeyframes(), "A gap in the rounds needs a keyframe");
+        }
+        try (RunReader reader = new RunReader(file)) {
+            assertArrayEquals(gen, reader.seek(7));
+            assertThrows(IllegalArgumentException.class, () -> reader.seek(3));
+        }
+    }
+
+    @Test
+    void testOpen_InvalidFiles() throws IOException {
+        Path other = dir.resolve("other.bin");
+        Files.write(other, new byte[64]);
+        assertThrows(IOException.class, () -> new RunReader(other));
+
+        assertThrows(IllegalArgumentException.class, () -> new RunRecorder(dir.resolve("bad.blr"), 5, 5, 0));
+    }
+}
@@ -0,0 +1,79 @@
+import org.example.BacteriaLifeLogic;
+import org.example.BitBoardEngine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationEventTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    void testStep_EmitsStepAndStabilityEvents() throws IOException {
+        Path file = dir.resolve("run.jfr");
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(12, new BitBoardEngine());
+        int[][] gen = new int[12][12];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.GenerationStep").withoutThreshold();
+            recording.enable("org.example.StabilityCheck").withoutThreshold();
+            recording.start();
+            logic.loadGen(gen);
+            for (int i = 0; i < 3; i++) {
+                logic.step();
+            }
+            logic.generateNewGen(gen);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> steps = ofType(events, "org.example.GenerationStep");
+        List<RecordedEvent> checks = ofType(events, "org.example.StabilityCheck");
+        assertEquals(4, steps.size(), "Three step() calls and one generateNewGen()");
+        assertEquals(3, checks.size(), "Only step() checks for stability");
+
+        RecordedEvent first = steps.get(0);
+        assertEquals(1, first.getInt("round"));
+        assertEquals(12, first.getInt("rows"));
+        assertEquals(12, first.getInt("cols"));
+        assertEquals(4, first.getInt("changedCells"), "Blinker flips 4 cells");
+        assertEquals("bitboard", first.getString("engine"));
+        assertEquals("periodic (period 2, since round 0)", checks.get(2).getString("status"));
+    }
+
+    @Test
+    void testStep_NoEventsWhenDisabled() throws IOException {
+        Path file = dir.resolve("off.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.GarbageCollection");
+            recording.disable("org.example.GenerationStep");
+            recording.start();
+            BacteriaLifeLogic logic = new BacteriaLifeLogic(8);
+            logic.loadGen(new int[8][8]);
+            logic.step();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertTrue(ofType(events, "org.example.GenerationStep").isEmpty(), "Disabled events should not be written");
+    }
+}
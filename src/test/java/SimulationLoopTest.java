@@ -0,0 +1,153 @@
+import org.example.BacteriaLifeLogic;
+import org.example.CycleStatus;
+import org.example.GenSnapshot;
+import org.example.Grid;
+import org.example.SimulationLoop;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationLoopTest {
+
+    private static int[][] blinker() {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        return gen;
+    }
+
+    // Poll like the EDT does until the run is over
+    private static GenSnapshot pollUntilFinished(SimulationLoop loop) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        GenSnapshot last = null;
+        while (System.currentTimeMillis() < deadline) {
+            GenSnapshot snapshot = loop.poll();
+            if (snapshot != null) {
+                last = snapshot;
+                if (snapshot.finished()) {
+                    return snapshot;
+                }
+            }
+            Thread.sleep(1);
+        }
+        fail("Simulation should finish, last snapshot: " + last);
+        return null;
+    }
+
+    @Test
+    void testRun_BlinkerFinishesAsPeriodic() throws InterruptedException {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        SimulationLoop loop = new SimulationLoop(logic, 0);
+        loop.start(blinker());
+
+        GenSnapshot last = pollUntilFinished(loop);
+        loop.stop();
+
+        assertEquals(2, last.round(), "Blinker repeats after 2 rounds");
+        assertEquals(CycleStatus.State.PERIODIC, last.status().state());
+        assertFalse(loop.isRunning(), "Loop should stop on its own once finished");
+    }
+
+    @Test
+    void testSnapshot_IsIndependentCopy() throws InterruptedException {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        SimulationLoop loop = new SimulationLoop(logic, 0);
+        loop.start(blinker());
+
+        GenSnapshot last = pollUntilFinished(loop);
+        loop.stop();
+
+        assertNotSame(logic.getCurrentGrid(), last.gen(), "Snapshot should not share the logic's buffer");
+        assertArrayEquals(logic.getCurrentGen(), last.gen().toArray(), "Snapshot should hold the last gen");
+        assertEquals(4, last.changes().size(), "Snapshot should hold the flipped cells");
+    }
+
+    @Test
+    void testPoll_DropsIntermediateSnapshots() throws InterruptedException {
+        int[][] gen = new int[40][40];
+        Random rand = new Random(1);
+        for (int[] row : gen) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = rand.nextInt(2);
+            }
+        }
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(40);
+        SimulationLoop loop = new SimulationLoop(logic, 0);
+        loop.start(gen);
+
+        // Nobody polls for a while, only the newest round is kept
+        Thread.sleep(200);
+        loop.stop();
+        GenSnapshot snapshot = loop.poll();
+
+        assertNotNull(snapshot, "Newest snapshot should be waiting");
+        assertNull(loop.poll(), "Slot should be empty once taken");
+        assertEquals(loop.getPublished(), snapshot.round(), "Slot should hold the last published round");
+        assertEquals(loop.getPublished() - 1, loop.getDropped(), "Every other snapshot should be dropped");
+    }
+
+    @Test
+    void testPoll_ReusesThreeBuffers() throws InterruptedException {
+        int[][] gen = new int[64][64];
+        Random rand = new Random(3);
+        for (int[] row : gen) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] = rand.nextInt(2);
+            }
+        }
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(64);
+        SimulationLoop loop = new SimulationLoop(logic, 2000);
+        loop.start(gen);
+
+        Set<Grid> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 100 && loop.isRunning(); i++) {
+            GenSnapshot snapshot = loop.poll();
+            if (snapshot != null) {
+                buffers.add(snapshot.gen());
+            }
+            // The thread keeps stepping, a taken snapshot must not change under the reader
+            Thread.sleep(2);
+            if (snapshot != null) {
+                assertEquals(snapshot.population(), snapshot.gen().population(), "Snapshot was overwritten");
+            }
+        }
+        loop.stop();
+
+        assertFalse(buffers.isEmpty(), "Snapshots should be published");
+        assertTrue(buffers.size() <= 3, "Snapshots should reuse three buffers, got " + buffers.size());
+    }
+
+    @Test
+    void testRun_RespectsTargetRate() throws InterruptedException {
+        int[][] gen = new int[5][5];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        logic.setMaxPeriod(1);
+        SimulationLoop loop = new SimulationLoop(logic, 20);
+        loop.start(gen);
+
+        Thread.sleep(250);
+        loop.stop();
+
+        assertTrue(loop.getPublished() <= 10, "About 5 rounds fit in 250 ms at 20 rounds per second");
+    }
+
+    @Test
+    void testStart_Twice() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(5);
+        logic.setMaxPeriod(1);
+        SimulationLoop loop = new SimulationLoop(logic, 1);
+        loop.start(blinker());
+
+        assertThrows(IllegalStateException.class, () -> loop.start(blinker()), "Only one run at a time");
+        assertDoesNotThrow(loop::stop);
+    }
+}
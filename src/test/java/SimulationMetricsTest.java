@@ -0,0 +1,145 @@
+import org.example.BacteriaLifeLogic;
+import org.example.BitBoardEngine;
+import org.example.SimulationMetrics;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationMetricsTest {
+
+    private static int[][] blinker(int size) {
+        int[][] gen = new int[size][size];
+        gen[2][1] = 1;
+        gen[2][2] = 1;
+        gen[2][3] = 1;
+        return gen;
+    }
+
+    @Test
+    void testStep_BirthsDeathsAndPopulation() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(10);
+        SimulationMetrics metrics = new SimulationMetrics();
+        logic.setMetrics(metrics);
+        logic.loadGen(blinker(10));
+        assertEquals(3, metrics.getPopulation(), "Population should be counted on load");
+
+        for (int i = 0; i < 6; i++) {
+            logic.step();
+            assertEquals(2, metrics.getLastBirths(), "Blinker should give birth to 2 cells");
+            assertEquals(2, metrics.getLastDeaths(), "Blinker should lose 2 cells");
+            assertEquals(3, metrics.getPopulation());
+        }
+        assertEquals(6, metrics.getSteps());
+        assertEquals(6, metrics.getRound());
+        assertEquals(12, metrics.getTotalBirths());
+        assertEquals(12, metrics.getTotalDeaths());
+    }
+
+    @Test
+    void testStep_LatencyAndThroughput() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(64, new BitBoardEngine());
+        SimulationMetrics metrics = new SimulationMetrics();
+        logic.loadGen(logic.generateInitialGen(3, 0.4));
+        logic.setMetrics(metrics);
+
+        for (int i = 0; i < 50; i++) {
+            logic.step();
+        }
+
+        long bucketed = 0;
+        for (long count : metrics.getStepLatencyHistogram()) {
+            bucketed += count;
+        }
+        assertEquals(50, bucketed, "Every step should land in a latency bucket");
+        assertTrue(metrics.getMeanStepNanos() > 0);
+        assertTrue(metrics.getStepNanosP50() <= metrics.getStepNanosP99());
+        assertTrue(metrics.getMaxStepNanos() >= metrics.getLastStepNanos());
+        assertTrue(metrics.getCellsPerSecond() > 0);
+        assertTrue(metrics.getLastAllocatedBytes() >= -1);
+
+        metrics.reset();
+        assertEquals(50, metrics.getSteps(), "The stepping thread clears the counters, not reset()");
+        logic.step();
+        assertEquals(1, metrics.getSteps(), "Counters should start again with the next step");
+        bucketed = 0;
+        for (long count : metrics.getStepLatencyHistogram()) {
+            bucketed += count;
+        }
+        assertEquals(1, bucketed, "Old latencies should be cleared");
+        assertEquals(metrics.getLastStepNanos(), metrics.getMaxStepNanos());
+
+        metrics.frameDrawn(100);
+        metrics.reset();
+        metrics.frameDrawn(300);
+        assertEquals(1, metrics.getFrames());
+        assertEquals(300, metrics.getMeanFrameNanos());
+    }
+
+    @Test
+    void testReset_FromAnotherThreadKeepsCountersConsistent() throws InterruptedException {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(32);
+        SimulationMetrics metrics = new SimulationMetrics();
+        logic.loadGen(logic.generateInitialGen(5, 0.4));
+        logic.setMetrics(metrics);
+        logic.setMaxRounds(5000);
+
+        Thread resetter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                metrics.reset();
+            }
+        });
+        resetter.start();
+        for (int i = 0; i < 2000; i++) {
+            logic.step();
+        }
+        resetter.interrupt();
+        resetter.join();
+        logic.step();
+
+        long bucketed = 0;
+        for (long count : metrics.getStepLatencyHistogram()) {
+            bucketed += count;
+        }
+        assertEquals(metrics.getSteps(), bucketed, "Steps and latency buckets should be cleared together");
+    }
+
+    @Test
+    void testStep_RoundLimitIsCounted() {
+        BacteriaLifeLogic logic = new BacteriaLifeLogic(10);
+        SimulationMetrics metrics = new SimulationMetrics();
+        logic.setMetrics(metrics);
+        logic.setMaxRounds(2);
+        logic.loadGen(blinker(10));
+
+        for (int i = 0; i < 4; i++) {
+            logic.step();
+        }
+        assertEquals(2, metrics.getSteps());
+        assertEquals(2, metrics.getRoundLimitHits());
+    }
+
+    @Test
+    void testRegister_PublishedOverJmx() throws Exception {
+        SimulationMetrics metrics = SimulationMetrics.register("test");
+        try {
+            BacteriaLifeLogic logic = new BacteriaLifeLogic(10);
+            logic.setMetrics(metrics);
+            logic.loadGen(blinker(10));
+            logic.step();
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = metrics.getObjectName();
+            assertTrue(server.isRegistered(name));
+            assertEquals(3L, server.getAttribute(name, "Population"));
+            assertEquals(1L, server.getAttribute(name, "Steps"));
+            assertThrows(IllegalStateException.class, () -> SimulationMetrics.register("test"));
+        } finally {
+            metrics.unregister();
+        }
+        assertNull(metrics.getObjectName());
+    }
+}
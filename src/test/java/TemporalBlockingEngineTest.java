@@ -0,0 +1,104 @@
+import org.example.ArrayEngine;
+import org.example.ByteGrid;
+import org.example.ChangeSet;
+import org.example.GenRandomizer;
+import org.example.GenerationEngine;
+import org.example.TemporalBlockingEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemporalBlockingEngineTest {
+
+    private static int[][] stepTimes(int[][] gen, int generations) {
+        ArrayEngine engine = new ArrayEngine();
+        for (int g = 0; g < generations; g++) {
+            int[][] next = new int[gen.length][gen[0].length];
+            engine.step(gen, next);
+            gen = next;
+        }
+        return gen;
+    }
+
+    @Test
+    void testAdvance_SameAsSequentialSteps() {
+        // Sizes that aren't multiples of the tile, halos wider than the tile and tiles bigger than the grid
+        int[][] sizes = {{37, 53}, {64, 64}, {5, 90}, {1, 1}};
+        for (int[] size : sizes) {
+            int[][] gen = GenRandomizer.randomGen(size[0], size[1], size[0] * 7L + size[1], 0.4);
+            for (int tile : new int[]{1, 8, 16, 100}) {
+                for (int generations : new int[]{1, 2, 5, 12}) {
+                    TemporalBlockingEngine engine = new TemporalBlockingEngine(generations, tile);
+                    ByteGrid next = new ByteGrid(size[0], size[1]);
+                    engine.advance(ByteGrid.copyOf(gen), next, null);
+
+                    assertArrayEquals(stepTimes(gen, generations), next.toArray(),
+                            size[0] + "x" + size[1] + " tile=" + tile + " generations=" + generations);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testAdvance_ReportsCellsThatDiffer() {
+        int[][] gen = GenRandomizer.randomGen(40, 40, 9, 0.3);
+        int[][] expected = stepTimes(gen, 6);
+        ChangeSet changes = new ChangeSet();
+        changes.clear(40);
+
+        int changed = new TemporalBlockingEngine(6, 16).advance(ByteGrid.copyOf(gen), new ByteGrid(40, 40), changes);
+
+        int differ = 0;
+        for (int i = 0; i < 40; i++) {
+            for (int j = 0; j < 40; j++) {
+                if (gen[i][j] != expected[i][j]) differ++;
+            }
+        }
+        assertEquals(differ, changed);
+        assertEquals(differ, changes.size());
+        for (int k = 0; k < changes.size(); k++) {
+            int row = changes.getRow(k);
+            int col = changes.getCol(k);
+            assertNotEquals(gen[row][col], expected[row][col], "Only cells that differ should be recorded");
+        }
+    }
+
+    @Test
+    void testAdvance_BlinkerAfterEvenGenerationsIsBack() {
+        ByteGrid gen = new ByteGrid(5, 5);
+        gen.set(2, 1, 1);
+        gen.set(2, 2, 1);
+        gen.set(2, 3, 1);
+        ByteGrid next = new ByteGrid(5, 5);
+
+        assertEquals(0, new TemporalBlockingEngine(4, 2).advance(gen, next, null), "Period 2, nothing differs");
+        assertTrue(gen.sameCells(next));
+    }
+
+    @Test
+    void testStep_IsOneGeneration() {
+        int[][] gen = GenRandomizer.randomGen(30, 30, 4, 0.5);
+        int[][] newGen = new int[30][30];
+        GenerationEngine engine = new TemporalBlockingEngine();
+
+        int changed = engine.step(gen, newGen);
+
+        int[][] expected = new int[30][30];
+        assertEquals(new ArrayEngine().step(gen, expected), changed);
+        assertArrayEquals(expected, newGen);
+        assertEquals("blocked", engine.getName());
+        assertThrows(IllegalArgumentException.class, () -> GenerationEngine.forName("blocked"),
+                "One round per step is no blocking, it shouldn't be picked by name");
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TemporalBlockingEngine(0, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TemporalBlockingEngine(4, 0));
+        TemporalBlockingEngine engine = new TemporalBlockingEngine();
+        ByteGrid grid = new ByteGrid(10, 10);
+        assertThrows(IllegalArgumentException.class, () -> engine.advance(grid, grid, null), "Not in place");
+        assertThrows(IllegalArgumentException.class, () -> engine.advance(grid, new ByteGrid(10, 11), null));
+        assertThrows(IllegalArgumentException.class, () -> engine.advance(grid, new ByteGrid(10, 10), 0, null));
+    }
+}
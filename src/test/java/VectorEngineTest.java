@@ -0,0 +1,95 @@
+import org.example.ArrayEngine;
+import org.example.BacteriaLifeLogic;
+import org.example.ChangeSet;
+import org.example.GenerationEngine;
+import org.example.VectorEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorEngineTest {
+
+    private static int[][] randomGen(int rows, int cols, long seed) {
+        Random rand = new Random(seed);
+        int[][] gen = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                gen[i][j] = rand.nextInt(2);
+            }
+        }
+        return gen;
+    }
+
+    private static void assertMatchesArrayEngine(VectorEngine engine, int rows, int cols, long seed) {
+        int[][] gen = randomGen(rows, cols, seed);
+        int[][] expected = new int[rows][cols];
+        int[][] actual = new int[rows][cols];
+        int expectedChanges = new ArrayEngine().step(gen, expected);
+        int actualChanges = engine.step(gen, actual);
+
+        assertArrayEquals(expected, actual, "Gens should match for " + rows + "x" + cols);
+        assertEquals(expectedChanges, actualChanges, "Changes should match for " + rows + "x" + cols);
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineOnOddSizes() {
+        VectorEngine engine = new VectorEngine();
+        int[][] sizes = {{1, 1}, {3, 7}, {5, 64}, {17, 65}, {40, 130}, {100, 100}, {64, 257}};
+        for (int k = 0; k < sizes.length; k++) {
+            assertMatchesArrayEngine(engine, sizes[k][0], sizes[k][1], k);
+        }
+    }
+
+    @Test
+    void testStep_ScalarMatchesArrayEngine() {
+        VectorEngine engine = new VectorEngine(false);
+        assertFalse(engine.isVectorized());
+        assertEquals(1, engine.getLanes());
+        assertMatchesArrayEngine(engine, 33, 90, 5);
+        assertMatchesArrayEngine(engine, 2, 2, 6);
+    }
+
+    @Test
+    void testStep_VectorLanesAreUsed() {
+        // The build adds the module to the test JVM
+        assertTrue(VectorEngine.isVectorAvailable(), "Tests should run with jdk.incubator.vector");
+        VectorEngine engine = new VectorEngine();
+        assertTrue(engine.isVectorized());
+        assertTrue(engine.getLanes() >= 8, "A vector should hold at least 8 cells");
+    }
+
+    @Test
+    void testStep_MatchesArrayEngineOverManyRounds() {
+        BacteriaLifeLogic arrayLogic = new BacteriaLifeLogic(90);
+        BacteriaLifeLogic vectorLogic = new BacteriaLifeLogic(90, GenerationEngine.forName("vector"));
+        int[][] gen = randomGen(90, 90, 21);
+        arrayLogic.loadGen(gen);
+        vectorLogic.loadGen(gen);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(arrayLogic.step(), vectorLogic.step(), "Changes should match at round " + (i + 1));
+            assertArrayEquals(arrayLogic.getCurrentGen(), vectorLogic.getCurrentGen(),
+                    "Generations should match at round " + (i + 1));
+        }
+    }
+
+    @Test
+    void testStep_RecordsChangedCells() {
+        int[][] gen = randomGen(50, 150, 8);
+        int[][] newGen = new int[50][150];
+        ChangeSet changes = new ChangeSet();
+        changes.clear(150);
+
+        int changed = new VectorEngine().step(gen, newGen, changes);
+
+        assertEquals(changed, changes.size(), "Every change should be recorded");
+        BitBoardEngineTest.assertChangesMatch(gen, newGen, changes);
+    }
+
+    @Test
+    void testGetName() {
+        assertEquals("vector", new VectorEngine().getName());
+    }
+}